@@ -28,6 +28,8 @@ import io.ballerina.architecturemodelgenerator.core.generators.service.ServiceMo
 import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
 import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
 import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.modelgenerator.commons.CancellationChecker;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 
@@ -35,8 +37,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 
 /**
  * Construct component model fpr project with multiple service.
@@ -45,59 +50,149 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class ArchitectureModelBuilder {
 
+    private final ExecutorService executorService;
+
+    public ArchitectureModelBuilder() {
+        this(null);
+    }
+
+    /**
+     * Creates a builder which generates the services, entities and entry points of each module in parallel on the
+     * given executor. The generated model is identical to the one produced by the sequential builder.
+     *
+     * @param executorService executor used to run the module level generators, or null to run sequentially
+     */
+    public ArchitectureModelBuilder(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     public ArchitectureModel constructComponentModel(Package currentPackage) {
         return constructComponentModel(currentPackage, null);
     }
 
     public ArchitectureModel constructComponentModel(Package currentPackage, PackageCompilation packageCompilation) {
+        PackageCompilation currentPackageCompilation = packageCompilation == null ?
+                currentPackage.getCompilation() : packageCompilation;
+        PackageId packageId = new PackageId(currentPackage);
+        boolean hasDiagnosticErrors = currentPackageCompilation.diagnosticResult().hasErrors();
+
+        List<Module> modules = new ArrayList<>();
+        currentPackage.modules().forEach(modules::add);
+        List<ModuleModel> moduleModels = executorService == null ?
+                generateSequentially(currentPackageCompilation, modules) :
+                generateInParallel(currentPackageCompilation, modules);
+
+        // Results are merged in module order so that both modes produce the same model
         Map<String, Service> services = new HashMap<>();
         // todo: Change to TypeDefinition
         Map<String, Entity> entities = new HashMap<>();
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
-        AtomicReference<FunctionEntryPoint> functionEntryPoint = new AtomicReference<>();
-        PackageId packageId = new PackageId(currentPackage);
-        AtomicBoolean hasDiagnosticErrors = new AtomicBoolean(false);
-
-        currentPackage.modules().forEach(module -> {
-            PackageCompilation currentPackageCompilation = packageCompilation == null ?
-                    currentPackage.getCompilation() : packageCompilation;
-            if (currentPackageCompilation.diagnosticResult().hasErrors() && !hasDiagnosticErrors.get()) {
-                hasDiagnosticErrors.set(true);
+        FunctionEntryPoint functionEntryPoint = null;
+        for (ModuleModel moduleModel : moduleModels) {
+            services.putAll(moduleModel.services);
+            diagnostics.addAll(moduleModel.serviceDiagnostics);
+            entities.putAll(moduleModel.entities);
+            diagnostics.addAll(moduleModel.entityDiagnostics);
+            if (moduleModel.functionEntryPoint != null) {
+                functionEntryPoint = moduleModel.functionEntryPoint;
             }
+        }
 
-            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(currentPackageCompilation, module);
-            try {
-                services.putAll(serviceModelGenerator.generate());
-            } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
-            }
+        return new ArchitectureModel(Constants.MODEL_VERSION, packageId, diagnostics, services, entities,
+                functionEntryPoint, hasDiagnosticErrors);
+    }
 
-            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(currentPackageCompilation, module);
-            try {
-                entities.putAll(entityModelGenerator.generate());
-            } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
-            }
+    private List<ModuleModel> generateSequentially(PackageCompilation packageCompilation, List<Module> modules) {
+        List<ModuleModel> moduleModels = new ArrayList<>();
+        for (Module module : modules) {
+            ModuleModel moduleModel = new ModuleModel();
+            moduleModel.services = generateServices(new ServiceModelGenerator(packageCompilation, module),
+                    moduleModel.serviceDiagnostics);
+            moduleModel.entities = generateEntities(new EntityModelGenerator(packageCompilation, module),
+                    moduleModel.entityDiagnostics);
+            moduleModel.functionEntryPoint =
+                    new FunctionEntryPointModelGenerator(packageCompilation, module).generate();
+            moduleModels.add(moduleModel);
+        }
+        return moduleModels;
+    }
 
+    private List<ModuleModel> generateInParallel(PackageCompilation packageCompilation, List<Module> modules) {
+        List<ModuleModel> moduleModels = new ArrayList<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        // The module level generators are cancelled together with the generation of the package
+        BooleanSupplier cancelled = CancellationChecker.current();
+        for (Module module : modules) {
+            // Generators are created on the calling thread, as it resolves the semantic model of the module
+            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(packageCompilation, module);
+            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
             FunctionEntryPointModelGenerator functionEntryPointModelGenerator =
-                    new FunctionEntryPointModelGenerator(currentPackageCompilation, module);
-            FunctionEntryPoint generatedFunctionEntryPoint = functionEntryPointModelGenerator.generate();
-            if (generatedFunctionEntryPoint != null) {
-                functionEntryPoint.set(functionEntryPointModelGenerator.generate());
+                    new FunctionEntryPointModelGenerator(packageCompilation, module);
+
+            ModuleModel moduleModel = new ModuleModel();
+            tasks.add(CompletableFuture.runAsync(() -> CancellationChecker.run(cancelled, () -> moduleModel.services =
+                    generateServices(serviceModelGenerator, moduleModel.serviceDiagnostics)), executorService));
+            tasks.add(CompletableFuture.runAsync(() -> CancellationChecker.run(cancelled, () -> moduleModel.entities =
+                    generateEntities(entityModelGenerator, moduleModel.entityDiagnostics)), executorService));
+            tasks.add(CompletableFuture.runAsync(() -> CancellationChecker.run(cancelled, () ->
+                    moduleModel.functionEntryPoint = functionEntryPointModelGenerator.generate()), executorService));
+            moduleModels.add(moduleModel);
+        }
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-        });
+            throw e;
+        }
+        return moduleModels;
+    }
 
-        return new ArchitectureModel(Constants.MODEL_VERSION, packageId, diagnostics, services, entities,
-                functionEntryPoint.get(), hasDiagnosticErrors.get());
+    private Map<String, Service> generateServices(ServiceModelGenerator serviceModelGenerator,
+                                                  List<ArchitectureModelDiagnostic> diagnostics) {
+        try {
+            return serviceModelGenerator.generate();
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICES,
+                    e.getMessage());
+            ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
+                    message.getCode(), message.getDescription(), message.getSeverity(), null, null
+            );
+            diagnostics.add(diagnostic);
+            return new HashMap<>();
+        }
+    }
+
+    private Map<String, Entity> generateEntities(EntityModelGenerator entityModelGenerator,
+                                                 List<ArchitectureModelDiagnostic> diagnostics) {
+        try {
+            return entityModelGenerator.generate();
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
+                    e.getMessage());
+            ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
+                    message.getCode(), message.getDescription(), message.getSeverity(), null, null
+            );
+            diagnostics.add(diagnostic);
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Holds the generated model elements of a single module until they are merged into the package model.
+     */
+    private static class ModuleModel {
+
+        private Map<String, Service> services = new HashMap<>();
+        private final List<ArchitectureModelDiagnostic> serviceDiagnostics = new ArrayList<>();
+        private Map<String, Entity> entities = new HashMap<>();
+        private final List<ArchitectureModelDiagnostic> entityDiagnostics = new ArrayList<>();
+        private FunctionEntryPoint functionEntryPoint;
     }
 }
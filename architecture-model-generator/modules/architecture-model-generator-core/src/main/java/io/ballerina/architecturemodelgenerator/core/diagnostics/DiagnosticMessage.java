@@ -66,4 +66,9 @@ public class DiagnosticMessage {
         return new DiagnosticMessage("003", String.format("Unexpected error occurred while generating " +
                 diagnosticNode.toString() + ". Message : %s", message), DiagnosticSeverity.ERROR);
     }
+
+    public static DiagnosticMessage moduleNotFound(String moduleName, String projectPath) {
+        return new DiagnosticMessage("004", String.format("Module %s not found in the Ballerina package of the " +
+                "path : %s", moduleName, projectPath), DiagnosticSeverity.ERROR);
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators;
+
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel.PackageId;
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.projects.Package;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.architecturemodelgenerator.core.Constants.COLON;
+import static io.ballerina.architecturemodelgenerator.core.Constants.FORWARD_SLASH;
+
+/**
+ * Resolves the fully qualified names of the entities and the referenced types of a package.
+ * <p>
+ * The package coordinates are built once per package, and the resolved names are interned so that every reference
+ * to the same type shares a single string instance in the generated model.
+ *
+ * @since 2201.8.0
+ */
+public class EntityNameResolver {
+
+    // The resolver must not hold a strong reference to the package, as it is the key of this map
+    private static final Map<Package, EntityNameResolver> ENTITY_NAME_RESOLVERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final PackageId packageId;
+    private final String packagePrefix;
+    private final String packageName;
+    private final Map<String, String> entityNames = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> associateEntityNames = new ConcurrentHashMap<>();
+    private final Map<String, String> referenceEntityNames = new ConcurrentHashMap<>();
+    private final Map<String, String> internedNames = new ConcurrentHashMap<>();
+
+    private EntityNameResolver(Package currentPackage) {
+        this.packageId = new PackageId(currentPackage);
+        this.packagePrefix = packageId.getOrg() + FORWARD_SLASH + packageId.getName();
+        this.packageName = packagePrefix + COLON + packageId.getVersion();
+    }
+
+    public static EntityNameResolver getInstance(Package currentPackage) {
+        return ENTITY_NAME_RESOLVERS.computeIfAbsent(currentPackage, EntityNameResolver::new);
+    }
+
+    public PackageId getPackageId() {
+        return packageId;
+    }
+
+    /**
+     * Build the FQN of an entity of the package. Ex: ballerina/reservation_api:0.1.0:Flight.
+     *
+     * @param moduleQualifiedName module qualified name of the type definition
+     * @return FQN of the entity
+     */
+    public String getEntityName(String moduleQualifiedName) {
+        return entityNames.computeIfAbsent(moduleQualifiedName, name -> {
+            // moduleQualifiedName is not correct when there is a dot in package name
+            String[] nameSpits = name.split(COLON);
+            if (packageId.getName().equals(nameSpits[0])) { // check whether the type is from the default module
+                return intern(packageName + COLON + nameSpits[1]);
+            }
+            return intern(packagePrefix + COLON + nameSpits[0] + COLON + packageId.getVersion() + COLON +
+                    nameSpits[1]);
+        });
+    }
+
+    /**
+     * Build the FQN of an entity referred by another entity. The signature of the reference is used as it is, if the
+     * referred type belongs to the package of the referring entity.
+     *
+     * @param typeReferenceTypeSymbol type reference of the associated entity
+     * @param referencingEntityName   FQN of the referring entity
+     * @return FQN of the associated entity
+     */
+    public String getAssociateEntityName(TypeReferenceTypeSymbol typeReferenceTypeSymbol,
+                                         String referencingEntityName) {
+        String referencingPackagePrefix = referencingEntityName.split(COLON)[0];
+        Map<String, String> names =
+                associateEntityNames.computeIfAbsent(referencingPackagePrefix, prefix -> new ConcurrentHashMap<>());
+        String referenceType = typeReferenceTypeSymbol.signature();
+        String associateEntityName = names.get(referenceType);
+        if (associateEntityName != null) {
+            return associateEntityName;
+        }
+
+        associateEntityName = referenceType;
+        if (typeReferenceTypeSymbol.getModule().isPresent() &&
+                !referenceType.split(COLON)[0].equals(referencingPackagePrefix)) {
+            ModuleID moduleID = typeReferenceTypeSymbol.getModule().get().id();
+            String recordName = typeReferenceTypeSymbol.getName().get();
+            // module name check
+            if (moduleID.packageName().equals(moduleID.modulePrefix())) {
+                associateEntityName = String.format("%s/%s:%s:%s", moduleID.orgName(), moduleID.packageName(),
+                        moduleID.version(), recordName);
+            } else {
+                associateEntityName = String.format("%s/%s:%s:%s:%s", moduleID.orgName(), moduleID.packageName(),
+                        moduleID.modulePrefix(), moduleID.version(), recordName);
+            }
+        }
+        associateEntityName = intern(associateEntityName);
+        names.put(referenceType, associateEntityName);
+        return associateEntityName;
+    }
+
+    /**
+     * Build the FQN of a type referred by a service or an entry point of the package.
+     *
+     * @param typeReferenceTypeSymbol type reference of the referred type
+     * @return FQN of the referred type
+     */
+    public String getReferenceEntityName(TypeReferenceTypeSymbol typeReferenceTypeSymbol) {
+        String referenceType = typeReferenceTypeSymbol.signature();
+        String referenceEntityName = referenceEntityNames.get(referenceType);
+        if (referenceEntityName != null) {
+            return referenceEntityName;
+        }
+
+        referenceEntityName = referenceType;
+        if (typeReferenceTypeSymbol.getModule().isPresent() &&
+                !referenceType.split(COLON)[0].equals(packagePrefix)) {
+            ModuleID moduleID = typeReferenceTypeSymbol.getModule().get().id();
+            referenceEntityName = String.format("%s/%s:%s:%s:%s", moduleID.orgName(), moduleID.packageName(),
+                    moduleID.modulePrefix(), moduleID.version(), typeReferenceTypeSymbol.getName().get());
+        }
+        referenceEntityName = intern(referenceEntityName.trim());
+        referenceEntityNames.put(referenceType, referenceEntityName);
+        return referenceEntityName;
+    }
+
+    /**
+     * Get the shared instance of the given name.
+     *
+     * @param name name to intern
+     * @return shared instance of the name
+     */
+    public String intern(String name) {
+        String internedName = internedNames.putIfAbsent(name, name);
+        return internedName == null ? name : internedName;
+    }
+}
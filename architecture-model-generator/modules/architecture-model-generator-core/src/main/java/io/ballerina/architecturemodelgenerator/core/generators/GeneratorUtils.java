@@ -18,15 +18,16 @@
 
 package io.ballerina.architecturemodelgenerator.core.generators;
 
-import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
 import io.ballerina.architecturemodelgenerator.core.model.ElementLocation;
 import io.ballerina.architecturemodelgenerator.core.model.common.DisplayAnnotation;
+import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Annotatable;
 import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
 import io.ballerina.compiler.api.symbols.AnnotationSymbol;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
@@ -51,6 +52,10 @@ import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextRange;
 
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -70,6 +75,8 @@ import static io.ballerina.architecturemodelgenerator.core.Constants.LABEL;
  */
 public class GeneratorUtils {
 
+    private static final String CLIENT_ID_DIGEST_ALGORITHM = "SHA-256";
+
     public static ElementLocation getElementLocation(String filePath, LineRange lineRange) {
 
         ElementLocation.LinePosition startPosition = ElementLocation.LinePosition.from(
@@ -81,6 +88,45 @@ public class GeneratorUtils {
 
     }
 
+    /**
+     * Get the ID of a client which is not given one by its display annotation. The ID is derived from the module and
+     * the location of the name of the client declaration, hence it is the same in every compilation of the same
+     * sources, and the interactions through a client have the ID of the dependency on it.
+     * <p>
+     * The file name of a location does not include the module, hence the module is part of the key, and the key is
+     * digested with SHA-256 so that the IDs of distinct declarations do not collide.
+     *
+     * @param moduleID      module which declares the client
+     * @param nameLineRange line range of the name of the client declaration
+     * @return ID of the client
+     */
+    public static String getClientId(ModuleID moduleID, LineRange nameLineRange) {
+        String location = moduleID.orgName() + "/" + moduleID.moduleName() + ":" + nameLineRange.fileName() + ":" +
+                nameLineRange.startLine().line() + ":" + nameLineRange.startLine().offset();
+        try {
+            byte[] digest = MessageDigest.getInstance(CLIENT_ID_DIGEST_ALGORITHM)
+                    .digest(location.getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, digest).toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the ID of a client which is not given one by its display annotation.
+     *
+     * @param clientSymbol symbol of the client declaration
+     * @return ID of the client, or null if the symbol does not have a module or a location
+     * @see #getClientId(ModuleID, LineRange)
+     */
+    public static String getClientId(Symbol clientSymbol) {
+        if (clientSymbol.getModule().isEmpty() || clientSymbol.getLocation().isEmpty()) {
+            return null;
+        }
+        return getClientId(clientSymbol.getModule().get().id(), clientSymbol.getLocation().get().lineRange());
+    }
+
     public static DisplayAnnotation getServiceAnnotation(NodeList<AnnotationNode> annotationNodes, String filePath) {
 
         String id = UUID.randomUUID().toString();
@@ -191,7 +237,8 @@ public class GeneratorUtils {
         switch (typeDescKind) {
             case TYPE_REFERENCE:
                 TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeSymbol;
-                paramTypes.add(getReferenceEntityName(typeReferenceTypeSymbol, currentPackage).trim());
+                paramTypes.add(EntityNameResolver.getInstance(currentPackage)
+                        .getReferenceEntityName(typeReferenceTypeSymbol));
                 break;
             case UNION:
                 UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) typeSymbol;
@@ -203,8 +250,8 @@ public class GeneratorUtils {
             case ARRAY:
                 ArrayTypeSymbol arrayTypeSymbol = (ArrayTypeSymbol) typeSymbol;
                 if (arrayTypeSymbol.memberTypeDescriptor().typeKind().equals(TypeDescKind.TYPE_REFERENCE)) {
-                    paramTypes.add(getReferenceEntityName(
-                            (TypeReferenceTypeSymbol) arrayTypeSymbol.memberTypeDescriptor(), currentPackage).trim());
+                    paramTypes.add(EntityNameResolver.getInstance(currentPackage).getReferenceEntityName(
+                            (TypeReferenceTypeSymbol) arrayTypeSymbol.memberTypeDescriptor()));
                 } else {
                     paramTypes.add(arrayTypeSymbol.signature().trim());
                 }
@@ -218,24 +265,6 @@ public class GeneratorUtils {
         return paramTypes;
     }
 
-    private static String getReferenceEntityName(TypeReferenceTypeSymbol typeReferenceTypeSymbol,
-                                                 Package currentPackage) {
-        ArchitectureModel.PackageId packageId = new ArchitectureModel.PackageId(currentPackage);
-        String currentPackageName = String.format
-                ("%s/%s:%s", packageId.getOrg(), packageId.getName(), packageId.getVersion());
-        String referenceType = typeReferenceTypeSymbol.signature();
-        if (typeReferenceTypeSymbol.getModule().isPresent() &&
-                !referenceType.split(":")[0].equals(currentPackageName.split(":")[0])) {
-            String orgName = typeReferenceTypeSymbol.getModule().get().id().orgName();
-            String packageName = typeReferenceTypeSymbol.getModule().get().id().packageName();
-            String modulePrefix = typeReferenceTypeSymbol.getModule().get().id().modulePrefix();
-            String recordName = typeReferenceTypeSymbol.getName().get();
-            String version = typeReferenceTypeSymbol.getModule().get().id().version();
-            referenceType = String.format("%s/%s:%s:%s:%s", orgName, packageName, modulePrefix, version, recordName);
-        }
-        return referenceType;
-    }
-
     // Dependency related methods
     public static Node getReferredNode(Node typeName) {
         Node qualifiedNameRefNode = null;
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static io.ballerina.architecturemodelgenerator.core.Constants.MAIN;
+
+/**
+ * Index of the module members of the documents of a package, which are required by the model generators.
+ * <p>
+ * The service declarations, type definitions and the main function of a document are collected in a single walk of
+ * its syntax tree, which is shared by the service, entity and entry point generators of the package compilation.
+ *
+ * @since 2201.8.0
+ */
+public class ModuleMemberIndex {
+
+    // The index must not hold a strong reference to the compilation, as it is the key of this map
+    private static final Map<PackageCompilation, ModuleMemberIndex> MODULE_MEMBER_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<DocumentId, DocumentMembers> documentMembers = new HashMap<>();
+
+    private ModuleMemberIndex() {
+    }
+
+    public static ModuleMemberIndex getInstance(PackageCompilation packageCompilation) {
+        return MODULE_MEMBER_INDEXES.computeIfAbsent(packageCompilation, compilation -> new ModuleMemberIndex());
+    }
+
+    /**
+     * Get the module members of the given document, walking its syntax tree on the first request.
+     *
+     * @param module     module of the document
+     * @param documentId id of the document
+     * @return module members of the document
+     */
+    public synchronized DocumentMembers getDocumentMembers(Module module, DocumentId documentId) {
+        return documentMembers.computeIfAbsent(documentId, id -> {
+            ModuleMemberVisitor moduleMemberVisitor = new ModuleMemberVisitor();
+            module.document(id).syntaxTree().rootNode().accept(moduleMemberVisitor);
+            return moduleMemberVisitor.documentMembers;
+        });
+    }
+
+    /**
+     * Represents the module members of a document which are required by the model generators.
+     */
+    public static class DocumentMembers {
+
+        private final List<ServiceDeclarationNode> serviceDeclarations = new ArrayList<>();
+        private final List<TypeDefinitionNode> typeDefinitions = new ArrayList<>();
+        private FunctionDefinitionNode mainFunction;
+
+        private DocumentMembers() {
+        }
+
+        public List<ServiceDeclarationNode> getServiceDeclarations() {
+            return Collections.unmodifiableList(serviceDeclarations);
+        }
+
+        public List<TypeDefinitionNode> getTypeDefinitions() {
+            return Collections.unmodifiableList(typeDefinitions);
+        }
+
+        public FunctionDefinitionNode getMainFunction() {
+            return mainFunction;
+        }
+    }
+
+    /**
+     * Visitor which collects the module members of a document without visiting the bodies of the members.
+     */
+    private static class ModuleMemberVisitor extends NodeVisitor {
+
+        private final DocumentMembers documentMembers = new DocumentMembers();
+
+        @Override
+        public void visit(ServiceDeclarationNode serviceDeclarationNode) {
+            documentMembers.serviceDeclarations.add(serviceDeclarationNode);
+        }
+
+        @Override
+        public void visit(TypeDefinitionNode typeDefinitionNode) {
+            documentMembers.typeDefinitions.add(typeDefinitionNode);
+        }
+
+        @Override
+        public void visit(FunctionDefinitionNode functionDefinitionNode) {
+            if (functionDefinitionNode.kind() == SyntaxKind.FUNCTION_DEFINITION &&
+                    functionDefinitionNode.functionName().text().equals(MAIN)) {
+                documentMembers.mainFunction = functionDefinitionNode;
+            }
+        }
+
+        @Override
+        public void visit(ImportDeclarationNode importDeclarationNode) {
+
+        }
+
+        @Override
+        public void visit(EnumDeclarationNode enumDeclarationNode) {
+
+        }
+
+        @Override
+        public void visit(ModuleVariableDeclarationNode moduleVariableDeclarationNode) {
+
+        }
+
+        @Override
+        public void visit(ClassDefinitionNode classDefinitionNode) {
+
+        }
+    }
+}
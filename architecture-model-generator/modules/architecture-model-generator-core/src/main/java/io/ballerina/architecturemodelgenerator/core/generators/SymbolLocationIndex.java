@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Index of the documents of a package by module and file name, used to resolve the definition node of a symbol
+ * location without scanning the documents of the module.
+ * <p>
+ * The index is built once per package compilation and shared by all the generators and visitors of the package.
+ *
+ * @since 2201.8.0
+ */
+public class SymbolLocationIndex {
+
+    // The index must not hold a strong reference to the compilation, as it is the key of this map
+    private static final Map<PackageCompilation, SymbolLocationIndex> SYMBOL_LOCATION_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Map<String, DocumentEntry>> documentsByModule = new HashMap<>();
+
+    private SymbolLocationIndex(Package currentPackage) {
+        for (Module module : currentPackage.modules()) {
+            Map<String, DocumentEntry> documents = documentsByModule.computeIfAbsent(
+                    module.moduleName().toString(), moduleName -> new HashMap<>());
+            for (DocumentId documentId : module.documentIds()) {
+                SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+                documents.put(syntaxTree.filePath(), new DocumentEntry(module.moduleId(), documentId, syntaxTree));
+            }
+        }
+    }
+
+    public static SymbolLocationIndex getInstance(PackageCompilation packageCompilation, Package currentPackage) {
+        return SYMBOL_LOCATION_INDEXES.computeIfAbsent(packageCompilation,
+                compilation -> new SymbolLocationIndex(currentPackage));
+    }
+
+    /**
+     * Get the document of the given module which has the file name of the given location.
+     *
+     * @param moduleID module of the symbol
+     * @param location location of the symbol
+     * @return document entry, or null if the location is not within the current package
+     */
+    public DocumentEntry getDocument(ModuleID moduleID, Location location) {
+        Map<String, DocumentEntry> documents = documentsByModule.get(moduleID.moduleName());
+        if (documents == null) {
+            return null;
+        }
+        return documents.get(location.lineRange().fileName());
+    }
+
+    /**
+     * Get the innermost node which encloses the given symbol location.
+     *
+     * @param moduleID module of the symbol
+     * @param location location of the symbol
+     * @return enclosing node, or null if the location is not within the current package
+     */
+    public NonTerminalNode getDefinitionNode(ModuleID moduleID, Location location) {
+        DocumentEntry documentEntry = getDocument(moduleID, location);
+        if (documentEntry == null) {
+            return null;
+        }
+        return documentEntry.getDefinitionNode(location.textRange());
+    }
+
+    /**
+     * Represents a document of the current package.
+     */
+    public static class DocumentEntry {
+
+        private final ModuleId moduleId;
+        private final DocumentId documentId;
+        private final SyntaxTree syntaxTree;
+        private final Map<Long, NonTerminalNode> definitionNodes = new HashMap<>();
+
+        private DocumentEntry(ModuleId moduleId, DocumentId documentId, SyntaxTree syntaxTree) {
+            this.moduleId = moduleId;
+            this.documentId = documentId;
+            this.syntaxTree = syntaxTree;
+        }
+
+        public ModuleId getModuleId() {
+            return moduleId;
+        }
+
+        public DocumentId getDocumentId() {
+            return documentId;
+        }
+
+        public SyntaxTree getSyntaxTree() {
+            return syntaxTree;
+        }
+
+        private synchronized NonTerminalNode getDefinitionNode(TextRange textRange) {
+            long rangeKey = ((long) textRange.startOffset() << Integer.SIZE) | textRange.length();
+            return definitionNodes.computeIfAbsent(rangeKey,
+                    key -> ((ModulePartNode) syntaxTree.rootNode()).findNode(textRange));
+        }
+    }
+}
@@ -18,14 +18,14 @@
 
 package io.ballerina.architecturemodelgenerator.core.generators.entity;
 
-import io.ballerina.architecturemodelgenerator.core.ArchitectureModel.PackageId;
 import io.ballerina.architecturemodelgenerator.core.Constants.CardinalityValue;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
+import io.ballerina.architecturemodelgenerator.core.generators.EntityNameResolver;
 import io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils;
 import io.ballerina.architecturemodelgenerator.core.generators.ModelGenerator;
-import io.ballerina.architecturemodelgenerator.core.generators.entity.nodevisitors.TypeDefinitionNodeVisitor;
+import io.ballerina.architecturemodelgenerator.core.generators.ModuleMemberIndex;
 import io.ballerina.architecturemodelgenerator.core.model.ElementLocation;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Association;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Attribute;
@@ -54,7 +54,8 @@ import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.modelgenerator.commons.CancellationChecker;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.PackageCompilation;
@@ -64,6 +65,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -72,10 +74,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.ballerina.architecturemodelgenerator.core.Constants.ARRAY;
-import static io.ballerina.architecturemodelgenerator.core.Constants.COLON;
 import static io.ballerina.architecturemodelgenerator.core.Constants.CONSTRAINT_ARRAY;
 import static io.ballerina.architecturemodelgenerator.core.Constants.CONSTRAINT_KEYWORD;
-import static io.ballerina.architecturemodelgenerator.core.Constants.FORWARD_SLASH;
 import static io.ballerina.architecturemodelgenerator.core.Constants.MAX_LENGTH_FIELD;
 import static io.ballerina.architecturemodelgenerator.core.Constants.MIN_LENGTH_FIELD;
 
@@ -87,29 +87,37 @@ import static io.ballerina.architecturemodelgenerator.core.Constants.MIN_LENGTH_
 public class EntityModelGenerator extends ModelGenerator {
 
     private final Map<String, Entity> types = new HashMap<>();
+    // Back reference cardinalities by the referenced entity and the referencing entity
+    private final Map<String, Map<String, String>> selfCardinalities = new HashMap<>();
+    private final EntityNameResolver entityNameResolver;
 
     public EntityModelGenerator(PackageCompilation packageCompilation, Module module) {
         super(packageCompilation, module);
+        this.entityNameResolver = EntityNameResolver.getInstance(module.packageInstance());
     }
 
     public Map<String, Entity> generate() {
-        Map<String, RecordTypeDescriptorNode> recordTypeDescNodes = new HashMap<>();
+        // Type definitions are collected from the syntax trees of the module instead of the module symbols, so that
+        // the documents are walked once for all the generators
+        ModuleMemberIndex moduleMemberIndex = ModuleMemberIndex.getInstance(getPackageCompilation());
+        Map<String, TypeDefinitionNode> typeDefinitionNodes = new LinkedHashMap<>();
         for (DocumentId documentId : getModule().documentIds()) {
-            SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
-            TypeDefinitionNodeVisitor typeDefNodeVisitor = new TypeDefinitionNodeVisitor();
-            syntaxTree.rootNode().accept(typeDefNodeVisitor);
-            typeDefNodeVisitor.getRecordTypeDescNodes().forEach(recordTypeDescNodes::putIfAbsent);
+            moduleMemberIndex.getDocumentMembers(getModule(), documentId).getTypeDefinitions().forEach(
+                    typeDefinitionNode -> typeDefinitionNodes.putIfAbsent(typeDefinitionNode.typeName().text(),
+                            typeDefinitionNode));
         }
 
-        List<Symbol> symbols = getSemanticModel().moduleSymbols();
-        for (Symbol symbol : symbols) {
-            if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION)) {
-                TypeDefinitionSymbol typeDefinitionSymbol = (TypeDefinitionSymbol) symbol;
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes.values()) {
+            CancellationChecker.checkCancelled();
+            Optional<Symbol> symbol = getSemanticModel().symbol(typeDefinitionNode);
+            if (symbol.isPresent() && symbol.get().kind().equals(SymbolKind.TYPE_DEFINITION)) {
+                TypeDefinitionSymbol typeDefinitionSymbol = (TypeDefinitionSymbol) symbol.get();
                 if (typeDefinitionSymbol.typeDescriptor() instanceof RecordTypeSymbol) {
                     String entityName = getEntityName(typeDefinitionSymbol.moduleQualifiedName());
                     RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeDefinitionSymbol.typeDescriptor();
-                    RecordTypeDescriptorNode recordTypeDescNode = typeDefinitionSymbol.getName().isPresent() ?
-                            recordTypeDescNodes.get(typeDefinitionSymbol.getName().get()) : null;
+                    RecordTypeDescriptorNode recordTypeDescNode =
+                            typeDefinitionNode.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC) ?
+                                    (RecordTypeDescriptorNode) typeDefinitionNode.typeDescriptor() : null;
                     this.types.put(entityName, getType(recordTypeSymbol, recordTypeDescNode, entityName,
                             getElementLocation(typeDefinitionSymbol), false));
                 }
@@ -125,20 +133,10 @@ public class EntityModelGenerator extends ModelGenerator {
         Map<String, RecordFieldSymbol> recordFieldSymbolMap =
                 getOriginalFieldMap(recordTypeSymbol, inclusionList, entityName);
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
+        Map<String, Node> recordFieldNodes = getRecordFieldNodes(recordNode);
         for (RecordFieldSymbol recordFieldSymbol : recordFieldSymbolMap.values()) {
-            Node recordFieldNode = null;
-            if (recordFieldSymbol.getName().isPresent() && recordNode != null) {
-                recordFieldNode = recordNode.fields().stream().filter(node -> {
-                    if (node.kind().equals(SyntaxKind.RECORD_FIELD) &&
-                            ((RecordFieldNode) node).fieldName().text().equals(recordFieldSymbol.getName().get())) {
-                        return true;
-                    } else {
-                        return node.kind().equals(SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE) &&
-                                ((RecordFieldWithDefaultValueNode) node).fieldName().text()
-                                        .equals(recordFieldSymbol.getName().get());
-                    }
-                }).findFirst().orElse(null);
-            }
+            Node recordFieldNode = recordFieldSymbol.getName().isPresent() ?
+                    recordFieldNodes.get(recordFieldSymbol.getName().get()) : null;
 
             if (recordFieldNode == null) {
                 DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
@@ -154,6 +152,28 @@ public class EntityModelGenerator extends ModelGenerator {
         return new Entity(attributeList, inclusionList, isAnonymous, elementLocation, diagnostics);
     }
 
+    /**
+     * Index the field nodes of a record by the field name, so that the node of each field symbol is resolved
+     * without scanning the fields of the record.
+     *
+     * @param recordNode record type descriptor node, or null if the node of the record is not available
+     * @return field nodes of the record by the field name
+     */
+    private Map<String, Node> getRecordFieldNodes(RecordTypeDescriptorNode recordNode) {
+        Map<String, Node> recordFieldNodes = new HashMap<>();
+        if (recordNode == null) {
+            return recordFieldNodes;
+        }
+        for (Node node : recordNode.fields()) {
+            if (node.kind().equals(SyntaxKind.RECORD_FIELD)) {
+                recordFieldNodes.putIfAbsent(((RecordFieldNode) node).fieldName().text(), node);
+            } else if (node.kind().equals(SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE)) {
+                recordFieldNodes.putIfAbsent(((RecordFieldWithDefaultValueNode) node).fieldName().text(), node);
+            }
+        }
+        return recordFieldNodes;
+    }
+
     private Attribute getAttribute(RecordFieldSymbol recordFieldSymbol, Node recordFieldNode,
                                    String entityName) {
         TypeDescKind fieldTypeDescKind = recordFieldSymbol.typeDescriptor().typeKind();
@@ -165,8 +185,8 @@ public class EntityModelGenerator extends ModelGenerator {
         boolean optional = recordFieldSymbol.isOptional();
         String defaultValue = ""; //need to address
         boolean nillable = isNillable(recordFieldSymbol.typeDescriptor());
-        String inlineRecordName = entityName + fieldName.substring(0, 1).toUpperCase(Locale.ROOT) +
-                fieldName.substring(1);
+        String inlineRecordName = entityNameResolver.intern(entityName +
+                fieldName.substring(0, 1).toUpperCase(Locale.ROOT) + fieldName.substring(1));
         boolean isReadOnly = recordFieldNode.kind().equals(SyntaxKind.RECORD_FIELD) ?
                 ((RecordFieldNode) recordFieldNode).readonlyKeyword().isPresent() :
                 ((RecordFieldWithDefaultValueNode) recordFieldNode).readonlyKeyword().isPresent();
@@ -257,44 +277,60 @@ public class EntityModelGenerator extends ModelGenerator {
 
     private String getSelfCardinality(TypeSymbol typeSymbol, String entityName) {
 
+        if (!(typeSymbol instanceof TypeReferenceTypeSymbol) ||
+                !(((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor() instanceof RecordTypeSymbol)) {
+            return CardinalityValue.ONE_AND_ONLY_ONE.getValue();
+        }
+        // The back reference cardinality only depends on the referenced record and the referencing entity, hence it
+        // is computed once for every pair instead of once for every field which refers to the record
+        TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeSymbol;
+        String referencedEntityName = getAssociateEntityName(typeReferenceTypeSymbol, entityName);
+        Map<String, String> referencingCardinalities =
+                selfCardinalities.computeIfAbsent(referencedEntityName, name -> new HashMap<>());
+        String selfCardinality = referencingCardinalities.get(entityName);
+        if (selfCardinality == null) {
+            selfCardinality = computeSelfCardinality(
+                    (RecordTypeSymbol) typeReferenceTypeSymbol.typeDescriptor(), entityName);
+            referencingCardinalities.put(entityName, selfCardinality);
+        }
+        return selfCardinality;
+    }
+
+    private String computeSelfCardinality(RecordTypeSymbol recordTypeSymbol, String entityName) {
+
         String selfCardinality = CardinalityValue.ONE_AND_ONLY_ONE.getValue();
-        if (typeSymbol instanceof TypeReferenceTypeSymbol &&
-                ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor() instanceof RecordTypeSymbol) {
-            RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol)
-                    (((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor());
-            Map<String, RecordFieldSymbol> recordFieldSymbolMap = recordTypeSymbol.fieldDescriptors();
-            for (Map.Entry<String, RecordFieldSymbol> fieldEntry : recordFieldSymbolMap.entrySet()) {
-                TypeSymbol fieldTypeDescriptor = fieldEntry.getValue().typeDescriptor();
-                if (fieldTypeDescriptor instanceof TypeReferenceTypeSymbol) {
-                    if (entityName.equals(getAssociateEntityName(
-                            (TypeReferenceTypeSymbol) fieldTypeDescriptor, entityName))) {
-                        selfCardinality = CardinalityValue.ONE_AND_ONLY_ONE.getValue();
-                    }
-                } else if (fieldTypeDescriptor instanceof UnionTypeSymbol) {
-                    boolean isFound = false;
-                    boolean isNull = false;
-                    UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) fieldTypeDescriptor;
-                    List<TypeSymbol> memberTypeDescriptors = unionTypeSymbol.memberTypeDescriptors();
-                    for (TypeSymbol memberTypeSymbol : memberTypeDescriptors) {
-                        if (memberTypeSymbol instanceof TypeReferenceTypeSymbol &&
-                                entityName.equals(getAssociateEntityName(
-                                        (TypeReferenceTypeSymbol) memberTypeSymbol, entityName))) {
-                            isFound = true;
-                        } else if (memberTypeSymbol instanceof NilTypeSymbol) {
-                            isNull = true;
-                        }
-                    }
-                    if (isFound && isNull) {
-                        selfCardinality = CardinalityValue.ZERO_OR_ONE.getValue();
-                    }
-                } else if (fieldTypeDescriptor instanceof ArrayTypeSymbol) {
-                    TypeSymbol memberTypeDescriptor = ((ArrayTypeSymbol) fieldTypeDescriptor).memberTypeDescriptor();
-                    if (memberTypeDescriptor instanceof TypeReferenceTypeSymbol &&
-                            getAssociateEntityName((TypeReferenceTypeSymbol) memberTypeDescriptor, entityName).
-                                    replace(ARRAY, "").equals(entityName)) {
-                        selfCardinality = CardinalityValue.ZERO_OR_MANY.getValue();
+        Map<String, RecordFieldSymbol> recordFieldSymbolMap = recordTypeSymbol.fieldDescriptors();
+        for (Map.Entry<String, RecordFieldSymbol> fieldEntry : recordFieldSymbolMap.entrySet()) {
+            TypeSymbol fieldTypeDescriptor = fieldEntry.getValue().typeDescriptor();
+            if (fieldTypeDescriptor instanceof TypeReferenceTypeSymbol) {
+                if (entityName.equals(getAssociateEntityName(
+                        (TypeReferenceTypeSymbol) fieldTypeDescriptor, entityName))) {
+                    selfCardinality = CardinalityValue.ONE_AND_ONLY_ONE.getValue();
+                }
+            } else if (fieldTypeDescriptor instanceof UnionTypeSymbol) {
+                boolean isFound = false;
+                boolean isNull = false;
+                UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) fieldTypeDescriptor;
+                List<TypeSymbol> memberTypeDescriptors = unionTypeSymbol.memberTypeDescriptors();
+                for (TypeSymbol memberTypeSymbol : memberTypeDescriptors) {
+                    if (memberTypeSymbol instanceof TypeReferenceTypeSymbol &&
+                            entityName.equals(getAssociateEntityName(
+                                    (TypeReferenceTypeSymbol) memberTypeSymbol, entityName))) {
+                        isFound = true;
+                    } else if (memberTypeSymbol instanceof NilTypeSymbol) {
+                        isNull = true;
                     }
                 }
+                if (isFound && isNull) {
+                    selfCardinality = CardinalityValue.ZERO_OR_ONE.getValue();
+                }
+            } else if (fieldTypeDescriptor instanceof ArrayTypeSymbol) {
+                TypeSymbol memberTypeDescriptor = ((ArrayTypeSymbol) fieldTypeDescriptor).memberTypeDescriptor();
+                if (memberTypeDescriptor instanceof TypeReferenceTypeSymbol &&
+                        getAssociateEntityName((TypeReferenceTypeSymbol) memberTypeDescriptor, entityName).
+                                replace(ARRAY, "").equals(entityName)) {
+                    selfCardinality = CardinalityValue.ZERO_OR_MANY.getValue();
+                }
             }
         }
         return selfCardinality;
@@ -358,27 +394,6 @@ public class EntityModelGenerator extends ModelGenerator {
         return new LinkedList<>(List.of(CardinalityValue.ZERO_OR_MANY.getValue()));
     }
 
-    /**
-     * Build the FQN of the entity Ex: ballerina/reservation_api:0.1.0:Flight.
-     *
-     * @param moduleQualifiedName
-     * @return
-     */
-    private String getEntityName(String moduleQualifiedName) {
-        // moduleQualifiedName is not correct when there is a dot in package name
-        PackageId packageId = new PackageId(getModule().packageInstance());
-        String entityName;
-        String[] nameSpits = moduleQualifiedName.split(COLON);
-        if (packageId.getName().equals(nameSpits[0])) { // check whether the referenced type is from the same module
-            entityName = packageId.getOrg() + FORWARD_SLASH + packageId.getName() + COLON + packageId.getVersion() +
-                    COLON + nameSpits[1];
-        } else {
-            entityName = packageId.getOrg() + FORWARD_SLASH + packageId.getName() + COLON + nameSpits[0] + COLON +
-                    packageId.getVersion() + COLON + nameSpits[1];
-        }
-        return entityName;
-    }
-
     private List<Association> getAssociationsInUnionTypes(UnionTypeSymbol unionTypeSymbol, String entityName,
                                                           boolean isRequired) {
 
@@ -395,26 +410,13 @@ public class EntityModelGenerator extends ModelGenerator {
         return unionTypeAssociations;
     }
 
+    private String getEntityName(String moduleQualifiedName) {
+        return entityNameResolver.getEntityName(moduleQualifiedName);
+    }
+
     private String getAssociateEntityName(TypeReferenceTypeSymbol typeReferenceTypeSymbol,
                                           String referencedPackageName) {
-
-        String referenceType = typeReferenceTypeSymbol.signature();
-        if (typeReferenceTypeSymbol.getModule().isPresent() &&
-                !referenceType.split(":")[0].equals(referencedPackageName.split(":")[0])) {
-            String orgName = typeReferenceTypeSymbol.getModule().get().id().orgName();
-            String packageName = typeReferenceTypeSymbol.getModule().get().id().packageName();
-            String modulePrefix = typeReferenceTypeSymbol.getModule().get().id().modulePrefix();
-            String recordName = typeReferenceTypeSymbol.getName().get();
-            String version = typeReferenceTypeSymbol.getModule().get().id().version();
-            // module name check
-            if (packageName.equals(modulePrefix)) {
-                referenceType = String.format("%s/%s:%s:%s", orgName, packageName, version, recordName);
-            } else {
-                referenceType = String.format(
-                        "%s/%s:%s:%s:%s", orgName, packageName, modulePrefix, version, recordName);
-            }
-        }
-        return referenceType;
+        return entityNameResolver.getAssociateEntityName(typeReferenceTypeSymbol, referencedPackageName);
     }
 
     private List<Association> getAssociations(TypeSymbol fieldTypeDescriptor, Node recordFieldNode,
@@ -19,14 +19,18 @@
 package io.ballerina.architecturemodelgenerator.core.generators.entrypoint;
 
 import io.ballerina.architecturemodelgenerator.core.generators.ModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.ModuleMemberIndex;
 import io.ballerina.architecturemodelgenerator.core.generators.entrypoint.nodevisitors.FunctionEntryPointVisitor;
 import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Build entry point model based on a given Ballerina package.
@@ -42,16 +46,33 @@ public class FunctionEntryPointModelGenerator extends ModelGenerator {
     public FunctionEntryPoint generate() {
         FunctionEntryPoint entryPoint = null;
         for (DocumentId documentId :getModule().documentIds()) {
-            SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
-            Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
-            FunctionEntryPointVisitor functionEntryPointVisitor = new FunctionEntryPointVisitor(
-                    getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
-            syntaxTree.rootNode().accept(functionEntryPointVisitor);
-            FunctionEntryPoint entryPointVisited = functionEntryPointVisitor.getFunctionEntryPoint();
+            FunctionEntryPoint entryPointVisited = generate(documentId, new HashSet<>());
             if (entryPointVisited != null) {
                 entryPoint = entryPointVisited;
             }
         }
         return entryPoint;
     }
+
+    /**
+     * Generate the entry point declared in a single document of the module.
+     *
+     * @param documentId          id of the document to generate the entry point from
+     * @param referredDocumentIds collects the documents visited while resolving the interactions of the entry point
+     * @return entry point declared in the document, or null if the document does not declare one
+     */
+    public FunctionEntryPoint generate(DocumentId documentId, Set<DocumentId> referredDocumentIds) {
+        FunctionDefinitionNode mainFunction = ModuleMemberIndex.getInstance(getPackageCompilation())
+                .getDocumentMembers(getModule(), documentId).getMainFunction();
+        if (mainFunction == null) {
+            return null;
+        }
+        SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
+        Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
+        FunctionEntryPointVisitor functionEntryPointVisitor = new FunctionEntryPointVisitor(
+                getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
+        mainFunction.accept(functionEntryPointVisitor);
+        referredDocumentIds.addAll(functionEntryPointVisitor.getReferredDocumentIds());
+        return functionEntryPointVisitor.getFunctionEntryPoint();
+    }
 }
@@ -41,6 +41,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.findNode;
+import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientId;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientModuleName;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getElementLocation;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getReferredClassSymbol;
@@ -86,7 +87,8 @@ public class FunctionEntryPointMemberNodeVisitor extends NodeVisitor {
                         DisplayAnnotation displayAnnotation =
                                 getServiceAnnotation(variableDeclarationNode.annotations(), filePath.toString());
                         String serviceId = displayAnnotation.getId() != null ? displayAnnotation.getId() :
-                                Integer.toString(variableDeclarationNode.hashCode());
+                                semanticModel.symbol(variableDeclarationNode).map(symbol -> getClientId(symbol))
+                                        .orElse(null);
                         String serviceLabel = displayAnnotation.getLabel();
                         Dependency dependency = new Dependency(serviceId, serviceLabel,
                                 getClientModuleName(referredClassSymbol),
@@ -42,14 +42,18 @@ import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 import static io.ballerina.architecturemodelgenerator.core.Constants.MAIN;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getElementLocation;
@@ -68,6 +72,7 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
     private final SyntaxTree syntaxTree;
     private final Package currentPackage;
     private FunctionEntryPoint functionEntryPoint = null;
+    private final Set<DocumentId> referredDocumentIds = new HashSet<>();
     private final Path filePath;
 
     public FunctionEntryPointVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
@@ -84,6 +89,10 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
         return functionEntryPoint;
     }
 
+    public Set<DocumentId> getReferredDocumentIds() {
+        return referredDocumentIds;
+    }
+
     @Override
     public void visit(FunctionDefinitionNode functionDefinitionNode) {
         if (functionDefinitionNode.functionName().text().equals(MAIN)) {
@@ -109,6 +118,8 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
             try {
                 functionDefinitionNode.accept(actionNodeVisitor);
                 functionDefinitionNode.accept(functionEntryPointMemberNodeVisitor);
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
                 DiagnosticMessage message =
                         DiagnosticMessage.failedToGenerate(DiagnosticNode.MAIN_ENTRY_POINT, e.getMessage());
@@ -117,6 +128,7 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
                 );
                 diagnostics.add(diagnostic);
             }
+            referredDocumentIds.addAll(actionNodeVisitor.getReferredDocumentIds());
 
             functionEntryPoint = new FunctionEntryPoint(funcParamList, returnTypes,
                     actionNodeVisitor.getInteractionList(), annotation,
@@ -19,8 +19,10 @@
 package io.ballerina.architecturemodelgenerator.core.generators.service;
 
 import io.ballerina.architecturemodelgenerator.core.generators.ModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.ModuleMemberIndex;
 import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.ServiceDeclarationNodeVisitor;
 import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -28,7 +30,9 @@ import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Build service model based on a given Ballerina service.
@@ -44,15 +48,33 @@ public class ServiceModelGenerator extends ModelGenerator {
     public Map<String, Service> generate() {
         Map<String, Service> services = new HashMap<>();
         for (DocumentId documentId :getModule().documentIds()) {
-            SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
-            Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
-            ServiceDeclarationNodeVisitor serviceNodeVisitor = new ServiceDeclarationNodeVisitor(
-                    getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
-            syntaxTree.rootNode().accept(serviceNodeVisitor);
-            serviceNodeVisitor.getServices().forEach(service -> {
-                services.put(service.getServiceId(), service);
-            });
+            services.putAll(generate(documentId, new HashSet<>()));
         }
         return services;
     }
+
+    /**
+     * Generate the services declared in a single document of the module.
+     *
+     * @param documentId          id of the document to generate the services from
+     * @param referredDocumentIds collects the documents visited while resolving the interactions of the services
+     * @return services declared in the document
+     */
+    public Map<String, Service> generate(DocumentId documentId, Set<DocumentId> referredDocumentIds) {
+        Map<String, Service> services = new HashMap<>();
+        SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
+        Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
+        ServiceDeclarationNodeVisitor serviceNodeVisitor = new ServiceDeclarationNodeVisitor(
+                getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
+        ModuleMemberIndex.DocumentMembers documentMembers =
+                ModuleMemberIndex.getInstance(getPackageCompilation()).getDocumentMembers(getModule(), documentId);
+        for (ServiceDeclarationNode serviceDeclarationNode : documentMembers.getServiceDeclarations()) {
+            serviceDeclarationNode.accept(serviceNodeVisitor);
+        }
+        serviceNodeVisitor.getServices().forEach(service -> {
+            services.put(service.getServiceId(), service);
+        });
+        referredDocumentIds.addAll(serviceNodeVisitor.getReferredDocumentIds());
+        return services;
+    }
 }
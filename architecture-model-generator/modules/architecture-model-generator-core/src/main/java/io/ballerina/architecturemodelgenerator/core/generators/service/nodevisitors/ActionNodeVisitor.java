@@ -21,10 +21,16 @@ package io.ballerina.architecturemodelgenerator.core.generators.service.nodevisi
 import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
+import io.ballerina.architecturemodelgenerator.core.generators.SymbolLocationIndex;
+import io.ballerina.architecturemodelgenerator.core.generators.SymbolLocationIndex.DocumentEntry;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.CallGraphIndex.CallEvent;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.CallGraphIndex.Event;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.CallGraphIndex.FunctionNode;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.CallGraphIndex.InteractionEvent;
+import io.ballerina.architecturemodelgenerator.core.model.ElementLocation;
 import io.ballerina.architecturemodelgenerator.core.model.common.DisplayAnnotation;
 import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
 import io.ballerina.architecturemodelgenerator.core.model.service.ResourceId;
-import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Annotatable;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
@@ -34,31 +40,25 @@ import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
 import io.ballerina.compiler.syntax.tree.ComputedResourceAccessSegmentNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
-import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
-import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NameReferenceNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
-import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.modelgenerator.commons.CancellationChecker;
 import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.tools.diagnostics.Location;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -69,6 +69,7 @@ import java.util.Set;
 import static io.ballerina.architecturemodelgenerator.core.Constants.FORWARD_SLASH;
 import static io.ballerina.architecturemodelgenerator.core.Constants.GET_KEYWORD;
 import static io.ballerina.architecturemodelgenerator.core.Constants.TYPE_MAP;
+import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientId;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientModuleName;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getElementLocation;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getServiceAnnotation;
@@ -82,43 +83,50 @@ public class ActionNodeVisitor extends NodeVisitor {
     private final PackageCompilation packageCompilation;
     private final SemanticModel semanticModel;
     private final Package currentPackage;
-    private final List<Interaction> interactionList = new LinkedList<>();
+    private final CallGraphIndex callGraphIndex;
     private final String filePath;
-    private final Set<NameReferenceNode> visitedFunctionNames = new HashSet<>();
-    private final String modulePrefix;
+    private final List<Event> events = new LinkedList<>();
+    private List<Event> currentEvents = events;
+    private List<Interaction> interactionList;
+    private Set<DocumentId> referredDocumentIds;
 
     public ActionNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
                              Package currentPackage, String filePath) {
-        this(packageCompilation, semanticModel, currentPackage, filePath, new HashSet<>(), null);
-    }
-
-    public ActionNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
-                             Package currentPackage, String filePath, Set<NameReferenceNode> visitedFunctionNames,
-                             String modulePrefix) {
         this.packageCompilation = packageCompilation;
         this.semanticModel = semanticModel;
         this.currentPackage = currentPackage;
+        this.callGraphIndex = CallGraphIndex.getInstance(packageCompilation);
         this.filePath = filePath;
-        this.visitedFunctionNames.addAll(visitedFunctionNames);
-        this.modulePrefix = modulePrefix;
     }
 
     public List<Interaction> getInteractionList() {
+        if (interactionList == null) {
+            resolveInteractions();
+        }
         return interactionList;
     }
 
-    public Set<NameReferenceNode> getVisitedFunctionNames() {
-        return visitedFunctionNames;
+    public Set<DocumentId> getReferredDocumentIds() {
+        if (referredDocumentIds == null) {
+            resolveInteractions();
+        }
+        return referredDocumentIds;
+    }
+
+    List<Event> getEvents() {
+        return events;
     }
 
     @Override
     public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
+        CancellationChecker.checkCancelled();
         NameReferenceNode clientNode = null;
 
         String resourceMethod = null;
         String resourcePath = null;
         String serviceId = null;
         String serviceLabel = null;
+        DocumentId clientDocumentId = null;
 
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         try {
@@ -144,8 +152,9 @@ public class ActionNodeVisitor extends NodeVisitor {
                 Annotatable annotatableSymbol = (Annotatable) clientSymbol.get();
                 DisplayAnnotation serviceAnnotation = getServiceAnnotation(annotatableSymbol, filePath);
                 serviceId = serviceAnnotation.getId() != null ? serviceAnnotation.getId() :
-                        Integer.toString(clientSymbol.hashCode());
+                        getClientId(clientSymbol.get());
                 serviceLabel = getServiceAnnotation(annotatableSymbol, filePath).getLabel();
+                clientDocumentId = getDocumentId(clientSymbol.get());
             }
         } catch (Exception e) {
             DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.INTERACTION, e.getMessage());
@@ -159,16 +168,18 @@ public class ActionNodeVisitor extends NodeVisitor {
                 new ResourceId(serviceId, serviceLabel, resourceMethod, resourcePath),
                 getClientModuleName(clientNode, semanticModel), getElementLocation(filePath,
                 clientResourceAccessActionNode.lineRange()), diagnostics);
-        interactionList.add(interaction);
+        addEvent(new InteractionEvent(interaction, clientDocumentId));
     }
 
     @Override
     public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+        CancellationChecker.checkCancelled();
         NameReferenceNode clientNode = null;
 
         String resourceMethod = null;
         String serviceId = null;
         String serviceLabel = null;
+        DocumentId clientDocumentId = null;
 
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         try {
@@ -193,8 +204,9 @@ public class ActionNodeVisitor extends NodeVisitor {
                     Annotatable annotatableSymbol = (Annotatable) clientSymbol.get();
                     DisplayAnnotation serviceAnnotation = getServiceAnnotation(annotatableSymbol, filePath);
                     serviceId = serviceAnnotation.getId() != null ? serviceAnnotation.getId() :
-                            Integer.toString(clientSymbol.hashCode());
+                            getClientId(clientSymbol.get());
                     serviceLabel = getServiceAnnotation(annotatableSymbol, filePath).getLabel();
+                    clientDocumentId = getDocumentId(clientSymbol.get());
                 }
             }
         } catch (Exception e) {
@@ -209,94 +221,117 @@ public class ActionNodeVisitor extends NodeVisitor {
             Interaction interaction = new Interaction(new ResourceId(serviceId, serviceLabel,
                     resourceMethod, null), getClientModuleName(clientNode, semanticModel),
                     getElementLocation(filePath, remoteMethodCallActionNode.lineRange()), diagnostics);
-            interactionList.add(interaction);
+            addEvent(new InteractionEvent(interaction, clientDocumentId));
         }
     }
 
     @Override
     public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
-        if ((functionCallExpressionNode.functionName() instanceof SimpleNameReferenceNode ||
-                functionCallExpressionNode.functionName() instanceof QualifiedNameReferenceNode) &&
-                isNodeAlreadyVisited(functionCallExpressionNode.functionName())) {
-
-            visitedFunctionNames.add(functionCallExpressionNode.functionName());
-            Optional<Symbol> symbol = semanticModel.symbol(functionCallExpressionNode.functionName());
-            symbol.ifPresent(value -> findInteractions(functionCallExpressionNode.functionName(), value));
-            if (!functionCallExpressionNode.arguments().isEmpty()) {
-                functionCallExpressionNode.arguments().forEach(arg -> {
-                    arg.accept(this);
-                });
-            }
+        if (functionCallExpressionNode.functionName() instanceof SimpleNameReferenceNode ||
+                functionCallExpressionNode.functionName() instanceof QualifiedNameReferenceNode) {
+            addCallEvent((NameReferenceNode) functionCallExpressionNode.functionName(),
+                    functionCallExpressionNode.arguments());
         }
         // todo : Other combinations
     }
 
     @Override
     public void visit(MethodCallExpressionNode methodCallExpressionNode) {
-        if (methodCallExpressionNode.methodName() instanceof SimpleNameReferenceNode &&
-                isNodeAlreadyVisited(methodCallExpressionNode.methodName())) {
-
-            visitedFunctionNames.add(methodCallExpressionNode.methodName());
-            Optional<Symbol> symbol = semanticModel.symbol(methodCallExpressionNode.methodName());
-            symbol.ifPresent(value -> findInteractions(methodCallExpressionNode.methodName(), value));
-            if (!methodCallExpressionNode.arguments().isEmpty()) {
-                methodCallExpressionNode.arguments().forEach(arg -> {
-                    arg.accept(this);
-                });
-            }
+        if (methodCallExpressionNode.methodName() instanceof SimpleNameReferenceNode) {
+            addCallEvent(methodCallExpressionNode.methodName(), methodCallExpressionNode.arguments());
         }
         // todo : Other combinations
     }
 
-    private void findInteractions(NameReferenceNode nameNode, Symbol methodSymbol) {
-
-        Optional<Location> location = methodSymbol.getLocation();
-        Optional<ModuleSymbol> optionalModuleSymbol = methodSymbol.getModule();
-        if (optionalModuleSymbol.isPresent()) {
-            ModuleID moduleID = optionalModuleSymbol.get().id();
-            currentPackage.modules().forEach(module -> {
-                if (Objects.equals(moduleID.moduleName(), module.moduleName().toString())) {
-                    Collection<DocumentId> documentIds = module.documentIds();
-                    for (DocumentId documentId : documentIds) {
-                        SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
-                        // todo : Improve the logic
-                        NonTerminalNode node = ((ModulePartNode) syntaxTree.rootNode())
-                                .findNode(location.get().textRange());
-                        if (!node.isMissing()) {
-                            SemanticModel nextSemanticModel = packageCompilation.getSemanticModel(module.moduleId());
-                            boolean isReferredNodeFromSameModule = isReferredNodeFromSameModule(nameNode, module);
-                            String modulePrefix = isReferredNodeFromSameModule ?
-                                    null : module.moduleName().moduleNamePart();
-                            if (node instanceof FunctionDefinitionNode) {
-                                FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
-                                String referencedFunctionName = functionDefinitionNode.functionName().text();
-                                if (isReferredFunction(nameNode, referencedFunctionName)) {
-                                    ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(packageCompilation,
-                                            nextSemanticModel, currentPackage, this.filePath, visitedFunctionNames,
-                                            modulePrefix);
-                                    functionDefinitionNode.accept(actionNodeVisitor);
-                                    interactionList.addAll(actionNodeVisitor.getInteractionList());
-                                    visitedFunctionNames.addAll(actionNodeVisitor.getVisitedFunctionNames());
-                                }
-                            } else if (node instanceof MethodDeclarationNode) {
-                                MethodDeclarationNode methodDeclarationNode = (MethodDeclarationNode) node;
-                                String referencedFunctionName = methodDeclarationNode.methodName().text();
-                                if (isReferredFunction(nameNode, referencedFunctionName)) {
-                                    ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(packageCompilation,
-                                            nextSemanticModel, currentPackage, this.filePath, visitedFunctionNames,
-                                            modulePrefix);
-                                    methodDeclarationNode.accept(actionNodeVisitor);
-                                    interactionList.addAll(actionNodeVisitor.getInteractionList());
-                                    visitedFunctionNames.addAll(actionNodeVisitor.getVisitedFunctionNames());
-                                }
-                            }
-                        }
-                    }
+    private void addCallEvent(NameReferenceNode nameNode, SeparatedNodeList<FunctionArgumentNode> arguments) {
+        // Resolving the callee may visit the body of the callee, hence a cancelled generation stops here
+        CancellationChecker.checkCancelled();
+        FunctionNode callee = null;
+        Object functionKey;
+        Optional<Symbol> symbol = semanticModel.symbol(nameNode);
+        if (symbol.isPresent()) {
+            FunctionNode functionNode = callGraphIndex.getFunctionNode(symbol.get(), packageCompilation,
+                    currentPackage);
+            if (functionNode != null && isReferredFunction(nameNode, functionNode.getName())) {
+                callee = functionNode;
+            }
+            functionKey = callee != null ? callee : CallGraphIndex.getFunctionKey(symbol.get());
+        } else {
+            functionKey = nameNode.toSourceCode().trim();
+        }
+
+        CallEvent callEvent = new CallEvent(functionKey, callee);
+        addEvent(callEvent);
+        List<Event> parentEvents = currentEvents;
+        currentEvents = callEvent.getArgumentEvents();
+        arguments.forEach(arg -> arg.accept(this));
+        currentEvents = parentEvents;
+    }
+
+    private void addEvent(Event event) {
+        currentEvents.add(event);
+        interactionList = null;
+        referredDocumentIds = null;
+    }
+
+    private void resolveInteractions() {
+        interactionList = new LinkedList<>();
+        referredDocumentIds = new HashSet<>();
+        resolveInteractions(events, new HashSet<>());
+    }
+
+    /**
+     * Resolve the interactions of the recorded events. Each function is expanded only once per visitor, in the order
+     * in which it is called, and the arguments of a call are only resolved when the function is called for the first
+     * time.
+     */
+    private void resolveInteractions(List<Event> events, Set<Object> visitedFunctions) {
+        for (Event event : events) {
+            if (event instanceof InteractionEvent) {
+                InteractionEvent interactionEvent = (InteractionEvent) event;
+                interactionList.add(getInteractionOfFile(interactionEvent.getInteraction()));
+                if (interactionEvent.getClientDocumentId() != null) {
+                    referredDocumentIds.add(interactionEvent.getClientDocumentId());
+                }
+            } else if (event instanceof CallEvent) {
+                CallEvent callEvent = (CallEvent) event;
+                if (!visitedFunctions.add(callEvent.getFunctionKey())) {
+                    continue;
                 }
-            });
+                FunctionNode callee = callEvent.getCallee();
+                if (callee != null) {
+                    referredDocumentIds.add(callee.getDocumentId());
+                    resolveInteractions(callGraphIndex.getEvents(callee, packageCompilation, currentPackage),
+                            visitedFunctions);
+                }
+                resolveInteractions(callEvent.getArgumentEvents(), visitedFunctions);
+            }
         }
     }
 
+    private DocumentId getDocumentId(Symbol symbol) {
+        // The ID of the client is derived from its declaration, which can be in another document of the package
+        Optional<Location> location = symbol.getLocation();
+        Optional<ModuleSymbol> moduleSymbol = symbol.getModule();
+        if (location.isEmpty() || moduleSymbol.isEmpty()) {
+            return null;
+        }
+        DocumentEntry documentEntry = SymbolLocationIndex.getInstance(packageCompilation, currentPackage)
+                .getDocument(moduleSymbol.get().id(), location.get());
+        return documentEntry != null ? documentEntry.getDocumentId() : null;
+    }
+
+    private Interaction getInteractionOfFile(Interaction interaction) {
+        // Interactions of the callees are reported against the file of the visited node
+        ElementLocation elementLocation = interaction.getElementLocation();
+        if (Objects.equals(elementLocation.getFilePath(), filePath)) {
+            return interaction;
+        }
+        return new Interaction(interaction.getResourceId(), interaction.getConnectorType(),
+                ElementLocation.from(filePath, elementLocation.getStartPosition(), elementLocation.getEndPosition()),
+                interaction.getDiagnostics());
+    }
+
     private String getResourcePath(SeparatedNodeList<Node> accessPathNodes) {
 
         StringBuilder resourcePathBuilder = new StringBuilder();
@@ -334,34 +369,6 @@ public class ActionNodeVisitor extends NodeVisitor {
         return resourcePathBuilder.toString();
     }
 
-    private boolean isNodeAlreadyVisited(NameReferenceNode functionName) {
-        if (functionName instanceof SimpleNameReferenceNode) {
-            return visitedFunctionNames.stream().noneMatch(nameNode -> {
-                if (nameNode instanceof SimpleNameReferenceNode) {
-                    return ((SimpleNameReferenceNode) nameNode).name().text()
-                            .equals(((SimpleNameReferenceNode) functionName).name().text());
-                } else if (nameNode instanceof QualifiedNameReferenceNode && modulePrefix != null) {
-                    return getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) nameNode)
-                            .equals(modulePrefix + ":" + ((SimpleNameReferenceNode) functionName).name().text());
-                }
-                return false;
-            });
-        } else if (functionName instanceof QualifiedNameReferenceNode) {
-            return visitedFunctionNames.stream().noneMatch(nameNode -> {
-                if (nameNode instanceof QualifiedNameReferenceNode) {
-                    return getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) nameNode)
-                            .equals(getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) functionName));
-                }
-                return false;
-            });
-        }
-        return false;
-    }
-
-    private String getQualifiedNameRefNodeFuncNameText(QualifiedNameReferenceNode nameNode) {
-        return nameNode.modulePrefix().text() + ((Token) nameNode.colon()).text() + nameNode.identifier().text();
-    }
-
     private boolean isReferredFunction(NameReferenceNode nameNode, String referredFunctionName) {
         if (nameNode instanceof SimpleNameReferenceNode) {
             return ((SimpleNameReferenceNode) nameNode).name().text().equals(referredFunctionName);
@@ -370,23 +377,4 @@ public class ActionNodeVisitor extends NodeVisitor {
         }
         return false;
     }
-
-    private boolean isReferredNodeFromSameModule(Node currentNode, Module referredNodeModule) {
-        String currentFilePath = currentNode.syntaxTree().filePath();
-        Module currentNodeModule = null;
-
-        List<Module> modules = new ArrayList<>();
-        currentPackage.modules().forEach(modules::add);
-
-        for (Module module : modules) {
-            if (module.documentIds().stream().anyMatch(docId ->
-                    module.document(docId).syntaxTree().filePath().equals(currentFilePath))) {
-                currentNodeModule = module;
-                break;
-            }
-        }
-
-        return currentNodeModule != null &&
-                currentNodeModule.moduleId().moduleName().equals(referredNodeModule.moduleId().moduleName());
-    }
 }
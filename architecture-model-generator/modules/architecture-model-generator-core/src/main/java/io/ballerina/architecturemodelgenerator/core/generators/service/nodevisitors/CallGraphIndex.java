@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors;
+
+import io.ballerina.architecturemodelgenerator.core.generators.SymbolLocationIndex;
+import io.ballerina.architecturemodelgenerator.core.generators.SymbolLocationIndex.DocumentEntry;
+import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Call graph of the functions and methods of a package which are invoked from services and entry points.
+ * <p>
+ * The body of each function is visited only once per package compilation and recorded as an ordered list of
+ * interactions and calls. The interactions of a resource are then resolved by walking the recorded calls, instead of
+ * visiting the syntax tree of every callee again for each resource that calls it.
+ *
+ * @since 2201.8.0
+ */
+public class CallGraphIndex {
+
+    // The index must not hold a strong reference to the compilation, as it is the key of this map
+    private static final Map<PackageCompilation, CallGraphIndex> CALL_GRAPH_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, FunctionNode> functionNodes = new ConcurrentHashMap<>();
+
+    private CallGraphIndex() {
+    }
+
+    public static CallGraphIndex getInstance(PackageCompilation packageCompilation) {
+        return CALL_GRAPH_INDEXES.computeIfAbsent(packageCompilation, compilation -> new CallGraphIndex());
+    }
+
+    /**
+     * Find the definition of the given function or method symbol within the current package, and record the
+     * interactions and calls of its body when it is requested for the first time.
+     *
+     * @param methodSymbol       symbol of the invoked function or method
+     * @param packageCompilation compilation of the current package
+     * @param currentPackage     current package
+     * @return function node of the definition, or null if the definition is not within the current package
+     */
+    FunctionNode getFunctionNode(Symbol methodSymbol, PackageCompilation packageCompilation, Package currentPackage) {
+        Optional<Location> location = methodSymbol.getLocation();
+        Optional<ModuleSymbol> optionalModuleSymbol = methodSymbol.getModule();
+        if (location.isEmpty() || optionalModuleSymbol.isEmpty() || methodSymbol.getName().isEmpty()) {
+            return null;
+        }
+
+        SymbolLocationIndex symbolLocationIndex = SymbolLocationIndex.getInstance(packageCompilation, currentPackage);
+        ModuleID moduleID = optionalModuleSymbol.get().id();
+        NonTerminalNode node = symbolLocationIndex.getDefinitionNode(moduleID, location.get());
+        if (node == null || node.isMissing() || !methodSymbol.getName().get().equals(getFunctionName(node))) {
+            return null;
+        }
+
+        DocumentEntry documentEntry = symbolLocationIndex.getDocument(moduleID, location.get());
+        String definitionKey = moduleID + ":" + location.get().lineRange().fileName() + ":" +
+                node.textRange().startOffset();
+        FunctionNode functionNode = functionNodes.computeIfAbsent(definitionKey,
+                key -> new FunctionNode(getFunctionName(node), node, documentEntry));
+        visitBody(functionNode, packageCompilation, currentPackage);
+        return functionNode;
+    }
+
+    /**
+     * Get the interactions and calls of the body of the given function, waiting for the thread which visits it. If
+     * that visit fails, for example because its generation is cancelled, the body is visited again by this thread.
+     * This must not be called while visiting a function body, as the visit of the function may be waiting for it.
+     *
+     * @param functionNode       function node
+     * @param packageCompilation compilation of the current package
+     * @param currentPackage     current package
+     * @return events of the function body
+     */
+    List<Event> getEvents(FunctionNode functionNode, PackageCompilation packageCompilation, Package currentPackage) {
+        while (true) {
+            visitBody(functionNode, packageCompilation, currentPackage);
+            Visit visit = functionNode.visit.get();
+            if (visit == null) {
+                continue;
+            }
+            try {
+                return visit.events.join();
+            } catch (CompletionException | CancellationException e) {
+                // The visit of another thread failed, hence the body is visited again
+            }
+        }
+    }
+
+    private void visitBody(FunctionNode functionNode, PackageCompilation packageCompilation, Package currentPackage) {
+        Visit visit = new Visit();
+        // Claimed before visiting the body, so that recursive calls resolve to the same node without visiting it again
+        if (!functionNode.visit.compareAndSet(null, visit)) {
+            return;
+        }
+        try {
+            DocumentEntry documentEntry = functionNode.documentEntry;
+            SemanticModel semanticModel = packageCompilation.getSemanticModel(documentEntry.getModuleId());
+            ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(packageCompilation, semanticModel,
+                    currentPackage, documentEntry.getSyntaxTree().filePath());
+            functionNode.definitionNode.accept(actionNodeVisitor);
+            visit.events.complete(actionNodeVisitor.getEvents());
+        } catch (RuntimeException e) {
+            // The nodes visited meanwhile may have recorded calls to this node, hence it is reset to be visited again
+            // when its events are requested, instead of being removed from the index
+            functionNode.visit.set(null);
+            visit.events.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    static String getFunctionKey(Symbol symbol) {
+        StringBuilder functionKey = new StringBuilder();
+        symbol.getModule().ifPresent(moduleSymbol -> functionKey.append(moduleSymbol.id()).append(":"));
+        symbol.getName().ifPresent(functionKey::append);
+        symbol.getLocation().ifPresent(location -> functionKey.append("@")
+                .append(location.lineRange().fileName()).append(":").append(location.textRange().startOffset()));
+        return functionKey.toString();
+    }
+
+    private static String getFunctionName(Node node) {
+        if (node instanceof FunctionDefinitionNode) {
+            return ((FunctionDefinitionNode) node).functionName().text();
+        } else if (node instanceof MethodDeclarationNode) {
+            return ((MethodDeclarationNode) node).methodName().text();
+        }
+        return null;
+    }
+
+    /**
+     * Represents a function or method definition of the current package.
+     */
+    static class FunctionNode {
+
+        private final String name;
+        private final NonTerminalNode definitionNode;
+        private final DocumentEntry documentEntry;
+        private final AtomicReference<Visit> visit = new AtomicReference<>();
+
+        private FunctionNode(String name, NonTerminalNode definitionNode, DocumentEntry documentEntry) {
+            this.name = name;
+            this.definitionNode = definitionNode;
+            this.documentEntry = documentEntry;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        DocumentId getDocumentId() {
+            return documentEntry.getDocumentId();
+        }
+    }
+
+    /**
+     * Represents the visit of a function body, which is completed with the events of the body.
+     */
+    private static class Visit {
+
+        private final CompletableFuture<List<Event>> events = new CompletableFuture<>();
+    }
+
+    /**
+     * Represents an interaction or a call found while visiting a function body, in the order of occurrence.
+     */
+    abstract static class Event {
+    }
+
+    /**
+     * Represents a client interaction within a function body.
+     */
+    static class InteractionEvent extends Event {
+
+        private final Interaction interaction;
+        private final DocumentId clientDocumentId;
+
+        InteractionEvent(Interaction interaction, DocumentId clientDocumentId) {
+            this.interaction = interaction;
+            this.clientDocumentId = clientDocumentId;
+        }
+
+        Interaction getInteraction() {
+            return interaction;
+        }
+
+        /**
+         * Get the document in which the client of the interaction is declared.
+         *
+         * @return document of the client declaration, or null if it is not within the current package
+         */
+        DocumentId getClientDocumentId() {
+            return clientDocumentId;
+        }
+    }
+
+    /**
+     * Represents a function or method call within a function body.
+     */
+    static class CallEvent extends Event {
+
+        private final Object functionKey;
+        private final FunctionNode callee;
+        private final List<Event> argumentEvents = new LinkedList<>();
+
+        CallEvent(Object functionKey, FunctionNode callee) {
+            this.functionKey = functionKey;
+            this.callee = callee;
+        }
+
+        /**
+         * Get the key which identifies the invoked function. This is the function node of the callee when the
+         * definition is within the current package, and a key derived from the symbol otherwise.
+         *
+         * @return function key
+         */
+        Object getFunctionKey() {
+            return functionKey;
+        }
+
+        FunctionNode getCallee() {
+            return callee;
+        }
+
+        List<Event> getArgumentEvents() {
+            return argumentEvents;
+        }
+    }
+}
@@ -48,15 +48,19 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
 import static io.ballerina.architecturemodelgenerator.core.Constants.FORWARD_SLASH;
 import static io.ballerina.architecturemodelgenerator.core.Constants.LISTENER;
@@ -72,6 +76,7 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
     private final SyntaxTree syntaxTree;
     private final Package currentPackage;
     private final List<Service> services = new LinkedList<>();
+    private final Set<DocumentId> referredDocumentIds = new HashSet<>();
     private final Path filePath;
 
     public ServiceDeclarationNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
@@ -87,6 +92,10 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
         return services;
     }
 
+    public Set<DocumentId> getReferredDocumentIds() {
+        return referredDocumentIds;
+    }
+
     @Override
     public void visit(ServiceDeclarationNode serviceDeclarationNode) {
 
@@ -114,6 +123,8 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         try {
             serviceDeclarationNode.accept(serviceMemberFunctionNodeVisitor);
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICE, e.getMessage());
             ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
@@ -121,6 +132,7 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
             );
             diagnostics.add(diagnostic);
         }
+        referredDocumentIds.addAll(serviceMemberFunctionNodeVisitor.getReferredDocumentIds());
         services.add(new Service(serviceName.trim(), serviceAnnotation.getId(),
                 getServiceType(serviceDeclarationNode), serviceMemberFunctionNodeVisitor.getResources(),
                 serviceAnnotation, serviceMemberFunctionNodeVisitor.getRemoteFunctions(),
@@ -55,6 +55,7 @@ import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.tools.diagnostics.Location;
@@ -62,12 +63,16 @@ import io.ballerina.tools.text.LineRange;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.findNode;
+import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientId;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getClientModuleName;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getElementLocation;
 import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorUtils.getReferencedType;
@@ -90,6 +95,7 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
     private List<Resource> resources = new LinkedList<>();
     private List<RemoteFunction> remoteFunctions = new LinkedList<>();
     private final List<Dependency> dependencies = new LinkedList<>();
+    private final Set<DocumentId> referredDocumentIds = new HashSet<>();
     private final String filePath;
 
     public ServiceMemberFunctionNodeVisitor(String serviceId, String serviceLabel,
@@ -116,6 +122,10 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
         return dependencies;
     }
 
+    public Set<DocumentId> getReferredDocumentIds() {
+        return referredDocumentIds;
+    }
+
     @Override
     public void visit(FunctionDefinitionNode functionDefinitionNode) {
         ElementLocation elementLocation = getElementLocation(filePath,
@@ -151,6 +161,8 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                 List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
                 try {
                     functionDefinitionNode.accept(actionNodeVisitor);
+                } catch (CancellationException e) {
+                    throw e;
                 } catch (Exception e) {
                     DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.RESOURCE,
                             e.getMessage());
@@ -159,6 +171,7 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                     );
                     diagnostics.add(diagnostic);
                 }
+                referredDocumentIds.addAll(actionNodeVisitor.getReferredDocumentIds());
 
                 ResourceId resourceId = new ResourceId(this.serviceId, this.serviceLabel, method, resourcePath);
                 Resource resource = new Resource(identifierBuilder.toString().trim(),
@@ -183,6 +196,8 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                     List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
                     try {
                         functionDefinitionNode.accept(actionNodeVisitor);
+                    } catch (CancellationException e) {
+                        throw e;
                     } catch (Exception e) {
                         DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.REMOTE_FUNCTION,
                                 e.getMessage());
@@ -191,6 +206,7 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                         );
                         diagnostics.add(diagnostic);
                     }
+                    referredDocumentIds.addAll(actionNodeVisitor.getReferredDocumentIds());
 
                     RemoteFunction remoteFunction = new RemoteFunction(name, parameterList, returnTypes,
                             actionNodeVisitor.getInteractionList(), elementLocation, diagnostics);
@@ -314,13 +330,13 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                     boolean isClientClass = referredClassSymbol.qualifiers().stream()
                             .anyMatch(qualifier -> qualifier.equals(Qualifier.CLIENT));
                     if (isClientClass) {
-                        String serviceId = Integer.toString(objectFieldNode.hashCode());
+                        String serviceId = semanticModel.symbol(objectFieldNode).map(symbol -> getClientId(symbol))
+                                .orElse(null);
                         String serviceLabel = "";
                         if (objectFieldNode.metadata().isPresent()) {
                             DisplayAnnotation displayAnnotation =
                                     getServiceAnnotation(objectFieldNode.metadata().get().annotations(), filePath);
-                            serviceId = displayAnnotation.getId() != null ? displayAnnotation.getId() :
-                                    Integer.toString(objectFieldNode.hashCode());
+                            serviceId = displayAnnotation.getId() != null ? displayAnnotation.getId() : serviceId;
                             serviceLabel = displayAnnotation.getLabel();
                         }
                         Dependency dependency = new Dependency(serviceId, serviceLabel,
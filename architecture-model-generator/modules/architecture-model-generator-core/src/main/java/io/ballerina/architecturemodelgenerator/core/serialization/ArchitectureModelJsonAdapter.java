@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+
+import java.io.IOException;
+
+/**
+ * Streams an architecture model with the shared model serializer, whichever Gson instance serializes the enclosing
+ * object.
+ * <p>
+ * Annotate a field of a response with {@code @JsonAdapter(ArchitectureModelJsonAdapter.class)} to let the JSON-RPC
+ * layer write the model to the response stream, instead of building a JSON tree of the model beforehand.
+ *
+ * @since 2201.8.0
+ */
+public class ArchitectureModelJsonAdapter extends TypeAdapter<ArchitectureModel> {
+
+    private static final TypeAdapter<ArchitectureModel> MODEL_ADAPTER =
+            ArchitectureModelGson.GSON.getAdapter(ArchitectureModel.class);
+
+    @Override
+    public void write(JsonWriter out, ArchitectureModel architectureModel) throws IOException {
+        MODEL_ADAPTER.write(out, architectureModel);
+    }
+
+    @Override
+    public ArchitectureModel read(JsonReader in) throws IOException {
+        return MODEL_ADAPTER.read(in);
+    }
+}
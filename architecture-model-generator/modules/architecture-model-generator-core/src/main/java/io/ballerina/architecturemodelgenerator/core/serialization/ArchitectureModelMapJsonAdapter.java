@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streams the architecture models of a map with the shared model serializer, whichever Gson instance serializes the
+ * enclosing object.
+ *
+ * @see ArchitectureModelJsonAdapter
+ * @since 2201.8.0
+ */
+public class ArchitectureModelMapJsonAdapter extends TypeAdapter<Map<String, ArchitectureModel>> {
+
+    private static final TypeAdapter<ArchitectureModel> MODEL_ADAPTER =
+            ArchitectureModelGson.GSON.getAdapter(ArchitectureModel.class);
+
+    @Override
+    public void write(JsonWriter out, Map<String, ArchitectureModel> architectureModels) throws IOException {
+        out.beginObject();
+        for (Map.Entry<String, ArchitectureModel> entry : architectureModels.entrySet()) {
+            out.name(entry.getKey());
+            MODEL_ADAPTER.write(out, entry.getValue());
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Map<String, ArchitectureModel> read(JsonReader in) throws IOException {
+        Map<String, ArchitectureModel> architectureModels = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.peek() != JsonToken.END_OBJECT) {
+            architectureModels.put(in.nextName(), MODEL_ADAPTER.read(in));
+        }
+        in.endObject();
+        return architectureModels;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
+import io.ballerina.architecturemodelgenerator.core.model.ElementLocation;
+import io.ballerina.architecturemodelgenerator.core.model.ModelElement;
+import io.ballerina.architecturemodelgenerator.core.model.common.DisplayAnnotation;
+import io.ballerina.architecturemodelgenerator.core.model.common.FunctionParameter;
+import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Association;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Attribute;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
+import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
+import io.ballerina.architecturemodelgenerator.core.model.service.Dependency;
+import io.ballerina.architecturemodelgenerator.core.model.service.RemoteFunction;
+import io.ballerina.architecturemodelgenerator.core.model.service.Resource;
+import io.ballerina.architecturemodelgenerator.core.model.service.ResourceId;
+import io.ballerina.architecturemodelgenerator.core.model.service.ResourceParameter;
+import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides hand-written type adapters to serialize the architecture model without reflection.
+ * <p>
+ * The adapters write the same JSON as the reflective serialization of the model classes, that is the fields of a
+ * class in their declaration order followed by the fields of its super class. Diagnostics are rare and are written
+ * with the adapter Gson provides for them. Deserialization is delegated to the reflective adapters.
+ *
+ * @since 2201.8.0
+ */
+public class ArchitectureModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        ValueWriter<T> valueWriter = (ValueWriter<T>) new ModelWriter(gson).getValueWriter(typeToken.getRawType());
+        if (valueWriter == null) {
+            return null;
+        }
+        return new ModelTypeAdapter<>(valueWriter, gson.getDelegateAdapter(this, typeToken));
+    }
+
+    /**
+     * Writes a value of the model to a JSON writer.
+     *
+     * @param <T> type of the value
+     */
+    private interface ValueWriter<T> {
+
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * Type adapter which writes a model class with its hand-written writer.
+     *
+     * @param <T> model class
+     */
+    private static class ModelTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final ValueWriter<T> valueWriter;
+        private final TypeAdapter<T> delegate;
+
+        private ModelTypeAdapter(ValueWriter<T> valueWriter, TypeAdapter<T> delegate) {
+            this.valueWriter = valueWriter;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            valueWriter.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+
+    /**
+     * Writes the elements of the architecture model.
+     */
+    private static class ModelWriter {
+
+        private final Gson gson;
+        private final Map<Class<?>, ValueWriter<?>> valueWriters = new HashMap<>();
+
+        private ModelWriter(Gson gson) {
+            this.gson = gson;
+            valueWriters.put(ArchitectureModel.class, (ValueWriter<ArchitectureModel>) this::writeArchitectureModel);
+            valueWriters.put(ArchitectureModel.PackageId.class,
+                    (ValueWriter<ArchitectureModel.PackageId>) this::writePackageId);
+            valueWriters.put(Service.class, (ValueWriter<Service>) this::writeService);
+            valueWriters.put(Resource.class, (ValueWriter<Resource>) this::writeResource);
+            valueWriters.put(ResourceId.class, (ValueWriter<ResourceId>) this::writeResourceId);
+            valueWriters.put(ResourceParameter.class, (ValueWriter<ResourceParameter>) this::writeResourceParameter);
+            valueWriters.put(RemoteFunction.class, (ValueWriter<RemoteFunction>) this::writeRemoteFunction);
+            valueWriters.put(Dependency.class, (ValueWriter<Dependency>) this::writeDependency);
+            valueWriters.put(FunctionParameter.class, (ValueWriter<FunctionParameter>) this::writeFunctionParameter);
+            valueWriters.put(Interaction.class, (ValueWriter<Interaction>) this::writeInteraction);
+            valueWriters.put(DisplayAnnotation.class, (ValueWriter<DisplayAnnotation>) this::writeDisplayAnnotation);
+            valueWriters.put(FunctionEntryPoint.class, (ValueWriter<FunctionEntryPoint>) this::writeFunctionEntryPoint);
+            valueWriters.put(Entity.class, (ValueWriter<Entity>) this::writeEntity);
+            valueWriters.put(Attribute.class, (ValueWriter<Attribute>) this::writeAttribute);
+            valueWriters.put(Association.class, (ValueWriter<Association>) this::writeAssociation);
+            valueWriters.put(Association.Cardinality.class,
+                    (ValueWriter<Association.Cardinality>) this::writeCardinality);
+            valueWriters.put(ElementLocation.class, (ValueWriter<ElementLocation>) this::writeElementLocation);
+            valueWriters.put(ElementLocation.LinePosition.class,
+                    (ValueWriter<ElementLocation.LinePosition>) this::writeLinePosition);
+        }
+
+        private ValueWriter<?> getValueWriter(Class<?> modelClass) {
+            return valueWriters.get(modelClass);
+        }
+
+        private void writeArchitectureModel(JsonWriter out, ArchitectureModel architectureModel) throws IOException {
+            out.beginObject();
+            out.name("version").value(architectureModel.getVersion());
+            out.name("packageId");
+            writeNullable(out, architectureModel.getPackageId(), this::writePackageId);
+            out.name("hasCompilationErrors").value(architectureModel.hasCompilationErrors());
+            out.name("diagnostics");
+            writeList(out, architectureModel.getDiagnostics(), this::writeDiagnostic);
+            out.name("services");
+            writeMap(out, architectureModel.getServices(), this::writeService);
+            out.name("entities");
+            writeMap(out, architectureModel.getEntities(), this::writeEntity);
+            out.name("functionEntryPoint");
+            writeNullable(out, architectureModel.getFunctionEntryPoint(), this::writeFunctionEntryPoint);
+            out.endObject();
+        }
+
+        private void writePackageId(JsonWriter out, ArchitectureModel.PackageId packageId) throws IOException {
+            out.beginObject();
+            out.name("name").value(packageId.getName());
+            out.name("org").value(packageId.getOrg());
+            out.name("version").value(packageId.getVersion());
+            out.endObject();
+        }
+
+        private void writeService(JsonWriter out, Service service) throws IOException {
+            out.beginObject();
+            out.name("path").value(service.getPath());
+            out.name("serviceId").value(service.getServiceId());
+            out.name("serviceType").value(service.getServiceType());
+            out.name("resources");
+            writeList(out, service.getResources(), this::writeResource);
+            out.name("annotation");
+            writeNullable(out, service.getAnnotation(), this::writeDisplayAnnotation);
+            out.name("remoteFunctions");
+            writeList(out, service.getRemoteFunctions(), this::writeRemoteFunction);
+            out.name("dependencies");
+            writeList(out, service.getDependencies(), this::writeDependency);
+            writeModelElement(out, service);
+            out.endObject();
+        }
+
+        private void writeResource(JsonWriter out, Resource resource) throws IOException {
+            out.beginObject();
+            out.name("identifier").value(resource.getIdentifier());
+            out.name("resourceId");
+            writeNullable(out, resource.getResourceId(), this::writeResourceId);
+            out.name("parameters");
+            writeList(out, resource.getParameters(), this::writeResourceParameter);
+            out.name("returns");
+            writeList(out, resource.getReturns(), JsonWriter::value);
+            out.name("interactions");
+            writeList(out, resource.getInteractions(), this::writeInteraction);
+            writeModelElement(out, resource);
+            out.endObject();
+        }
+
+        private void writeResourceId(JsonWriter out, ResourceId resourceId) throws IOException {
+            out.beginObject();
+            out.name("serviceId").value(resourceId.getServiceId());
+            out.name("serviceLabel").value(resourceId.getServiceLabel());
+            out.name("path").value(resourceId.getPath());
+            out.name("action").value(resourceId.getAction());
+            out.endObject();
+        }
+
+        private void writeResourceParameter(JsonWriter out, ResourceParameter resourceParameter)
+                throws IOException {
+            out.beginObject();
+            out.name("type");
+            writeList(out, resourceParameter.getType(), JsonWriter::value);
+            out.name("name").value(resourceParameter.getName());
+            out.name("in").value(resourceParameter.getIn());
+            out.name("isRequired").value(resourceParameter.isRequired());
+            writeModelElement(out, resourceParameter);
+            out.endObject();
+        }
+
+        private void writeRemoteFunction(JsonWriter out, RemoteFunction remoteFunction) throws IOException {
+            out.beginObject();
+            out.name("name").value(remoteFunction.getName());
+            out.name("parameters");
+            writeList(out, remoteFunction.getParameters(), this::writeFunctionParameter);
+            out.name("returns");
+            writeList(out, remoteFunction.getReturns(), JsonWriter::value);
+            out.name("interactions");
+            writeList(out, remoteFunction.getInteractions(), this::writeInteraction);
+            writeModelElement(out, remoteFunction);
+            out.endObject();
+        }
+
+        private void writeDependency(JsonWriter out, Dependency dependency) throws IOException {
+            out.beginObject();
+            out.name("serviceId").value(dependency.getServiceId());
+            out.name("serviceLabel").value(dependency.getServiceLabel());
+            out.name("connectorType").value(dependency.getConnectorType());
+            writeModelElement(out, dependency);
+            out.endObject();
+        }
+
+        private void writeFunctionParameter(JsonWriter out, FunctionParameter functionParameter)
+                throws IOException {
+            out.beginObject();
+            out.name("type");
+            writeList(out, functionParameter.getType(), JsonWriter::value);
+            out.name("name").value(functionParameter.getName());
+            out.name("isRequired").value(functionParameter.isRequired());
+            writeModelElement(out, functionParameter);
+            out.endObject();
+        }
+
+        private void writeInteraction(JsonWriter out, Interaction interaction) throws IOException {
+            out.beginObject();
+            out.name("resourceId");
+            writeNullable(out, interaction.getResourceId(), this::writeResourceId);
+            out.name("connectorType").value(interaction.getConnectorType());
+            writeModelElement(out, interaction);
+            out.endObject();
+        }
+
+        private void writeDisplayAnnotation(JsonWriter out, DisplayAnnotation displayAnnotation)
+                throws IOException {
+            out.beginObject();
+            out.name("id").value(displayAnnotation.getId());
+            out.name("label").value(displayAnnotation.getLabel());
+            writeModelElement(out, displayAnnotation);
+            out.endObject();
+        }
+
+        private void writeFunctionEntryPoint(JsonWriter out, FunctionEntryPoint functionEntryPoint)
+                throws IOException {
+            out.beginObject();
+            out.name("parameters");
+            writeList(out, functionEntryPoint.getParameters(), this::writeFunctionParameter);
+            out.name("returns");
+            writeList(out, functionEntryPoint.getReturns(), JsonWriter::value);
+            out.name("interactions");
+            writeList(out, functionEntryPoint.getInteractions(), this::writeInteraction);
+            out.name("annotation");
+            writeNullable(out, functionEntryPoint.getAnnotation(), this::writeDisplayAnnotation);
+            out.name("dependencies");
+            writeList(out, functionEntryPoint.getDependencies(), this::writeDependency);
+            writeModelElement(out, functionEntryPoint);
+            out.endObject();
+        }
+
+        private void writeEntity(JsonWriter out, Entity entity) throws IOException {
+            out.beginObject();
+            out.name("attributes");
+            writeList(out, entity.getAttributes(), this::writeAttribute);
+            out.name("inclusions");
+            writeList(out, entity.getInclusions(), JsonWriter::value);
+            out.name("isAnonymous").value(entity.isAnonymous());
+            writeModelElement(out, entity);
+            out.endObject();
+        }
+
+        private void writeAttribute(JsonWriter out, Attribute attribute) throws IOException {
+            out.beginObject();
+            out.name("name").value(attribute.getName());
+            out.name("type").value(attribute.getType());
+            out.name("optional").value(attribute.isOptional());
+            out.name("nillable").value(attribute.isNillable());
+            out.name("defaultValue").value(attribute.getDefaultValue());
+            out.name("associations");
+            writeList(out, attribute.getAssociations(), this::writeAssociation);
+            out.name("isReadOnly").value(attribute.getIsReadOnly());
+            writeModelElement(out, attribute);
+            out.endObject();
+        }
+
+        private void writeAssociation(JsonWriter out, Association association) throws IOException {
+            out.beginObject();
+            out.name("associate").value(association.getAssociate());
+            out.name("cardinality");
+            writeNullable(out, association.getCardinality(), this::writeCardinality);
+            out.endObject();
+        }
+
+        private void writeCardinality(JsonWriter out, Association.Cardinality cardinality) throws IOException {
+            out.beginObject();
+            out.name("self").value(cardinality.getSelf());
+            out.name("associate").value(cardinality.getAssociate());
+            out.endObject();
+        }
+
+        private void writeModelElement(JsonWriter out, ModelElement modelElement) throws IOException {
+            out.name("elementLocation");
+            writeNullable(out, modelElement.getElementLocation(), this::writeElementLocation);
+            out.name("diagnostics");
+            writeList(out, modelElement.getDiagnostics(), this::writeDiagnostic);
+        }
+
+        private void writeElementLocation(JsonWriter out, ElementLocation elementLocation) throws IOException {
+            out.beginObject();
+            out.name("filePath").value(elementLocation.getFilePath());
+            out.name("startPosition");
+            writeNullable(out, elementLocation.getStartPosition(), this::writeLinePosition);
+            out.name("endPosition");
+            writeNullable(out, elementLocation.getEndPosition(), this::writeLinePosition);
+            out.endObject();
+        }
+
+        private void writeLinePosition(JsonWriter out, ElementLocation.LinePosition linePosition)
+                throws IOException {
+            out.beginObject();
+            out.name("line").value(linePosition.getLine());
+            out.name("offset").value(linePosition.getOffset());
+            out.endObject();
+        }
+
+        private void writeDiagnostic(JsonWriter out, ArchitectureModelDiagnostic diagnostic) throws IOException {
+            gson.getAdapter(ArchitectureModelDiagnostic.class).write(out, diagnostic);
+        }
+
+        private static <T> void writeNullable(JsonWriter out, T value, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            valueWriter.write(out, value);
+        }
+
+        private static <T> void writeList(JsonWriter out, List<T> values, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (values == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (T value : values) {
+                writeNullable(out, value, valueWriter);
+            }
+            out.endArray();
+        }
+
+        private static <T> void writeMap(JsonWriter out, Map<String, T> values, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (values == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                out.name(String.valueOf(entry.getKey()));
+                writeNullable(out, entry.getValue(), valueWriter);
+            }
+            out.endObject();
+        }
+    }
+}
@@ -21,6 +21,7 @@ module io.ballerina.architecturemodelgenerator {
     requires io.ballerina.lang;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
+    requires io.ballerina.modelgenerator.commons;
 
     exports io.ballerina.architecturemodelgenerator.core;
     exports io.ballerina.architecturemodelgenerator.core.diagnostics;
@@ -29,5 +30,8 @@ module io.ballerina.architecturemodelgenerator {
     exports io.ballerina.architecturemodelgenerator.core.model.entity;
     exports io.ballerina.architecturemodelgenerator.core.model.service;
     exports io.ballerina.architecturemodelgenerator.core.model.functionentrypoint;
+    exports io.ballerina.architecturemodelgenerator.core.serialization;
     exports io.ballerina.architecturemodelgenerator.core.generators.entity;
+    exports io.ballerina.architecturemodelgenerator.core.generators.entrypoint;
+    exports io.ballerina.architecturemodelgenerator.core.generators.service;
 }
@@ -20,13 +20,31 @@ package io.ballerina.architecturemodelgenerator.core;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.ballerina.architecturemodelgenerator.core.fixtures.SyntheticPackageGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.service.ServiceModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.model.service.Resource;
+import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.architecturemodelgenerator.core.serialization.ArchitectureModelGson;
+import io.ballerina.modelgenerator.commons.CancellationChecker;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test service component generation.
@@ -50,6 +68,156 @@ public class ServiceGeneratorTests {
         ArchitectureModel generatedModel = architectureModelBuilder.constructComponentModel(project.currentPackage());
         ArchitectureModel expectedModel = TestUtils.getComponentFromGivenJsonFile(expectedJsonPath);
 
+        assertServices(generatedModel, expectedModel);
+    }
+
+    @Test(description = "parallel model generation produces the same services as the sequential generation")
+    public void testParallelModelGeneration() throws IOException {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(
+                Path.of("single_service_sample"));
+        Path expectedJsonPath = RES_DIR.resolve(RESULTS).resolve(Path.of("simple_service_sample.json"));
+
+        Project project = TestUtils.loadBuildProject(projectPath, false);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        ArchitectureModel generatedModel;
+        try {
+            ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder(executorService);
+            generatedModel = architectureModelBuilder.constructComponentModel(project.currentPackage());
+        } finally {
+            executorService.shutdown();
+        }
+        ArchitectureModel expectedModel = TestUtils.getComponentFromGivenJsonFile(expectedJsonPath);
+
+        Assert.assertEquals(generatedModel.getServices().keySet(), expectedModel.getServices().keySet());
+        assertServices(generatedModel, expectedModel);
+    }
+
+    @Test(description = "parallel model generation produces the same model as the sequential generation for " +
+            "multi-module packages")
+    public void testParallelSyntheticPackageModelGeneration() throws IOException {
+        SyntheticPackageGenerator packageGenerator = new SyntheticPackageGenerator()
+                .setModuleCount(4)
+                .setServiceCount(3)
+                .setResourceCount(3)
+                .setCallDepth(2)
+                .setRecordCount(5);
+        Path projectPath = packageGenerator.generate(Files.createTempDirectory("synthetic-package"));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Project project = TestUtils.loadBuildProject(projectPath, false);
+            Package currentPackage = project.currentPackage();
+            PackageCompilation packageCompilation = currentPackage.getCompilation();
+            ArchitectureModel sequentialModel =
+                    new ArchitectureModelBuilder().constructComponentModel(currentPackage, packageCompilation);
+            Assert.assertEquals(sequentialModel.getServices().size(), 4 * 3);
+            Assert.assertEquals(sequentialModel.getEntities().size(), 4 * 5);
+            JsonElement expectedModel = JsonParser.parseString(ArchitectureModelGson.GSON.toJson(sequentialModel));
+
+            // The generators of all the modules share the compilation, and each run may interleave them differently
+            ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder(executorService);
+            for (int i = 0; i < 5; i++) {
+                ArchitectureModel parallelModel =
+                        architectureModelBuilder.constructComponentModel(currentPackage, packageCompilation);
+                Assert.assertEquals(JsonParser.parseString(ArchitectureModelGson.GSON.toJson(parallelModel)),
+                        expectedModel);
+            }
+        } finally {
+            executorService.shutdown();
+            TestUtils.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "model generation for synthetic multi-module packages")
+    public void testSyntheticPackageModelGeneration() throws IOException {
+        SyntheticPackageGenerator packageGenerator = new SyntheticPackageGenerator()
+                .setModuleCount(3)
+                .setServiceCount(4)
+                .setResourceCount(3)
+                .setCallDepth(2)
+                .setRecordCount(5);
+        Path projectPath = packageGenerator.generate(Files.createTempDirectory("synthetic-package"));
+
+        ArchitectureModel generatedModel;
+        try {
+            Project project = TestUtils.loadBuildProject(projectPath, false);
+            ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+            generatedModel = architectureModelBuilder.constructComponentModel(project.currentPackage());
+        } finally {
+            TestUtils.deleteDirectory(projectPath);
+        }
+
+        Assert.assertEquals(generatedModel.getServices().size(), 3 * 4);
+        for (Service service : generatedModel.getServices().values()) {
+            Assert.assertEquals(service.getResources().size(), 3);
+            for (Resource resource : service.getResources()) {
+                // Each resource reaches a single client call through the chain of functions
+                Assert.assertEquals(resource.getInteractions().size(), 1);
+            }
+        }
+        Assert.assertEquals(generatedModel.getEntities().size(), 3 * 5);
+    }
+
+    @Test(description = "synthetic packages without services compile without errors")
+    public void testSyntheticPackageWithoutServices() throws IOException {
+        SyntheticPackageGenerator packageGenerator = new SyntheticPackageGenerator()
+                .setModuleCount(1)
+                .setServiceCount(0)
+                .setRecordCount(2);
+        Path projectPath = packageGenerator.generate(Files.createTempDirectory("synthetic-package"));
+
+        try {
+            Project project = TestUtils.loadBuildProject(projectPath, false);
+            Assert.assertFalse(project.currentPackage().getCompilation().diagnosticResult().hasErrors());
+            ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+            ArchitectureModel generatedModel =
+                    architectureModelBuilder.constructComponentModel(project.currentPackage());
+            Assert.assertTrue(generatedModel.getServices().isEmpty());
+        } finally {
+            TestUtils.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "a cancelled generation does not leave incomplete call graph nodes for the next generation")
+    public void testModelGenerationAfterCancellation() {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(Path.of("recursive_calls"));
+
+        Project project = TestUtils.loadBuildProject(projectPath, false);
+        PackageCompilation packageCompilation = project.currentPackage().getCompilation();
+        Module module = project.currentPackage().getDefaultModule();
+        // The fourth check is made in the body of first(), after second() has been visited and has recorded its call
+        // to first()
+        AtomicInteger checks = new AtomicInteger();
+        Assert.expectThrows(CancellationException.class, () -> CancellationChecker.run(
+                () -> checks.incrementAndGet() >= 4,
+                () -> new ServiceModelGenerator(packageCompilation, module).generate()));
+
+        Map<String, Service> services = new ServiceModelGenerator(packageCompilation, module).generate();
+        Assert.assertEquals(services.size(), 1);
+        List<Resource> resources = services.values().iterator().next().getResources();
+        Assert.assertEquals(resources.size(), 2);
+        for (Resource resource : resources) {
+            // Both resources reach the client call of third() through first()
+            Assert.assertEquals(resource.getInteractions().size(), 1);
+        }
+    }
+
+    @Test(description = "the shared model serializer writes the same JSON as the reflective serialization")
+    public void testModelSerialization() throws IOException {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(
+                Path.of("single_service_sample"));
+
+        Project project = TestUtils.loadBuildProject(projectPath, false);
+        ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+        ArchitectureModel generatedModel = architectureModelBuilder.constructComponentModel(project.currentPackage());
+
+        Assert.assertEquals(JsonParser.parseString(ArchitectureModelGson.GSON.toJson(generatedModel)),
+                gson.toJsonTree(generatedModel));
+        Assert.assertEquals(ArchitectureModelGson.PRETTY_GSON.toJson(generatedModel), gson.newBuilder()
+                .setPrettyPrinting().create().toJson(generatedModel));
+    }
+
+    private void assertServices(ArchitectureModel generatedModel, ArchitectureModel expectedModel) {
         generatedModel.getServices().forEach((id, service) -> {
             String generatedService = TestUtils.replaceStdLibVersionStrings(gson.toJson(service)
                     .replaceAll("\\s+", "")
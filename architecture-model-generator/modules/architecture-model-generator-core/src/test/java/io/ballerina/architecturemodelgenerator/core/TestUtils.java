@@ -28,6 +28,8 @@ import io.ballerina.projects.directory.SingleFileProject;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,4 +62,14 @@ public class TestUtils {
                 .replaceAll("ballerina/http:http:[0-9].[0-9].[0-9]", "")
                 .replaceAll("ballerina/grpc:[0-9].[0-9].[0-9]", "");
     }
+
+    public static void deleteDirectory(Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+import ballerina/http;
+
+service /recursion on new http:Listener(9090) {
+    resource function get data() returns string|error {
+        return first();
+    }
+
+    resource function get viaSecond() returns string|error {
+        return second();
+    }
+}
+
+function first() returns string|error {
+    _ = check second();
+    return third();
+}
+
+function second() returns string|error {
+    return first();
+}
+
+function third() returns string|error {
+    http:Client backend = check new ("http://localhost:9091");
+    string response = check backend->/third.get();
+    return response;
+}
@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.fixtures;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes parameterized Ballerina packages to disk, to measure the model generators against packages of any size.
+ * <p>
+ * Each generated module contains:
+ * <ul>
+ *     <li>the given number of HTTP services, each with the given number of resources,</li>
+ *     <li>a chain of functions of the given call depth per resource index, which ends with a client call and is
+ *     shared by the same resource of every service of the module,</li>
+ *     <li>the given number of records, each associated with the next records of the module and, except for the
+ *     first module, with a record of the previous module,</li>
+ *     <li>a GraphQL service with the given number of output types, when the number of types is not zero.</li>
+ * </ul>
+ * The default module only contains the main function.
+ *
+ * @since 2201.8.0
+ */
+public class SyntheticPackageGenerator {
+
+    public static final String ORG_NAME = "synthetic";
+    public static final String PACKAGE_NAME = "synthetic_package";
+
+    private int moduleCount = 1;
+    private int serviceCount = 1;
+    private int resourceCount = 1;
+    private int callDepth = 0;
+    private int recordCount = 1;
+    private int graphqlTypeCount = 0;
+
+    public SyntheticPackageGenerator setModuleCount(int moduleCount) {
+        this.moduleCount = moduleCount;
+        return this;
+    }
+
+    public SyntheticPackageGenerator setServiceCount(int serviceCount) {
+        this.serviceCount = serviceCount;
+        return this;
+    }
+
+    public SyntheticPackageGenerator setResourceCount(int resourceCount) {
+        this.resourceCount = resourceCount;
+        return this;
+    }
+
+    public SyntheticPackageGenerator setCallDepth(int callDepth) {
+        this.callDepth = callDepth;
+        return this;
+    }
+
+    public SyntheticPackageGenerator setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+        return this;
+    }
+
+    public SyntheticPackageGenerator setGraphqlTypeCount(int graphqlTypeCount) {
+        this.graphqlTypeCount = graphqlTypeCount;
+        return this;
+    }
+
+    public int getModuleCount() {
+        return moduleCount;
+    }
+
+    public int getServiceCount() {
+        return serviceCount;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    public int getCallDepth() {
+        return callDepth;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public int getGraphqlTypeCount() {
+        return graphqlTypeCount;
+    }
+
+    /**
+     * Write the package to the given directory, which is created if it does not exist.
+     *
+     * @param packagePath root directory of the package
+     * @return root directory of the package
+     * @throws IOException if the package cannot be written
+     */
+    public Path generate(Path packagePath) throws IOException {
+        if (moduleCount < 1 || recordCount < 1) {
+            throw new IllegalArgumentException("A synthetic package requires at least one module and one record");
+        }
+        if (serviceCount < 0 || resourceCount < 0 || callDepth < 0 || graphqlTypeCount < 0) {
+            throw new IllegalArgumentException("Sizes of a synthetic package cannot be negative");
+        }
+
+        Files.createDirectories(packagePath);
+        writeFile(packagePath.resolve("Ballerina.toml"), "[package]\n" +
+                "org = \"" + ORG_NAME + "\"\n" +
+                "name = \"" + PACKAGE_NAME + "\"\n" +
+                "version = \"0.1.0\"\n");
+        writeFile(packagePath.resolve("main.bal"), "public function main() {\n}\n");
+
+        for (int module = 0; module < moduleCount; module++) {
+            Path modulePath = packagePath.resolve("modules").resolve(getModuleName(module));
+            Files.createDirectories(modulePath);
+            writeFile(modulePath.resolve("types.bal"), getTypes(module));
+            writeFile(modulePath.resolve("functions.bal"), getFunctions(module));
+            writeFile(modulePath.resolve("services.bal"), getServices(module));
+            if (graphqlTypeCount > 0) {
+                writeFile(modulePath.resolve("graphql_service.bal"), getGraphqlService(module));
+            }
+        }
+        return packagePath;
+    }
+
+    public static String getModuleName(int module) {
+        return "mod" + module;
+    }
+
+    public static String getRecordName(int module, int record) {
+        return "Mod" + module + "Record" + record;
+    }
+
+    private String getTypes(int module) {
+        StringBuilder types = new StringBuilder();
+        if (module > 0) {
+            types.append("import ").append(PACKAGE_NAME).append(".").append(getModuleName(module - 1))
+                    .append(";\n\n");
+        }
+        for (int record = 0; record < recordCount; record++) {
+            types.append("public type ").append(getRecordName(module, record)).append(" record {|\n")
+                    .append("    int id;\n")
+                    .append("    string name;\n")
+                    .append("    ").append(getRecordName(module, (record + 1) % recordCount)).append("? next;\n")
+                    .append("    ").append(getRecordName(module, (record + 2) % recordCount))
+                    .append("[] related;\n");
+            if (module > 0) {
+                types.append("    ").append(getModuleName(module - 1)).append(":")
+                        .append(getRecordName(module - 1, record)).append("? upstream;\n");
+            }
+            types.append("|};\n\n");
+        }
+        return types.toString();
+    }
+
+    private String getFunctions(int module) {
+        StringBuilder functions = new StringBuilder("import ballerina/http;\n\n")
+                .append("final http:Client backendClient = check new (\"http://localhost:9090/")
+                .append(getModuleName(module)).append("\");\n");
+        for (int resource = 0; resource < resourceCount; resource++) {
+            String returnType = getRecordName(module, resource % recordCount);
+            for (int depth = 0; depth < callDepth; depth++) {
+                functions.append("\nfunction ").append(getFunctionName(resource, depth)).append("(int id) returns ")
+                        .append(returnType).append("|error {\n")
+                        .append("    return ").append(getCallee(resource, depth + 1)).append(";\n")
+                        .append("}\n");
+            }
+        }
+        return functions.toString();
+    }
+
+    private String getServices(int module) {
+        StringBuilder services = new StringBuilder();
+        if (serviceCount > 0) {
+            // An unused import is a compilation error
+            services.append("import ballerina/http;\n");
+        }
+        for (int service = 0; service < serviceCount; service++) {
+            services.append("\nservice /").append(getModuleName(module)).append("/service").append(service)
+                    .append(" on new http:Listener(9090) {\n");
+            for (int resource = 0; resource < resourceCount; resource++) {
+                services.append("    resource function get resource").append(resource).append("(int id) returns ")
+                        .append(getRecordName(module, resource % recordCount)).append("|error {\n")
+                        .append("        return ").append(getCallee(resource, 0)).append(";\n")
+                        .append("    }\n");
+            }
+            services.append("}\n");
+        }
+        return services.toString();
+    }
+
+    private String getGraphqlService(int module) {
+        StringBuilder graphqlService = new StringBuilder("import ballerina/graphql;\n");
+        for (int type = 0; type < graphqlTypeCount; type++) {
+            graphqlService.append("\npublic type ").append(getGraphqlTypeName(module, type)).append(" record {|\n")
+                    .append("    int id;\n")
+                    .append("    string name;\n")
+                    .append("    ").append(getGraphqlTypeName(module, (type + 1) % graphqlTypeCount))
+                    .append("? next;\n")
+                    .append("|};\n");
+        }
+        graphqlService.append("\nservice /").append(getModuleName(module))
+                .append("/graphql on new graphql:Listener(9091) {\n");
+        for (int type = 0; type < graphqlTypeCount; type++) {
+            graphqlService.append("    resource function get type").append(type).append("(int id) returns ")
+                    .append(getGraphqlTypeName(module, type)).append("? {\n")
+                    .append("        return ();\n")
+                    .append("    }\n");
+        }
+        graphqlService.append("}\n");
+        return graphqlService.toString();
+    }
+
+    private String getCallee(int resource, int depth) {
+        if (depth < callDepth) {
+            return getFunctionName(resource, depth) + "(id)";
+        }
+        return "backendClient->get(string `/resource" + resource + "/${id}`)";
+    }
+
+    private static String getFunctionName(int resource, int depth) {
+        return "fetchResource" + resource + "Level" + depth;
+    }
+
+    private static String getGraphqlTypeName(int module, int type) {
+        return "Mod" + module + "GraphqlType" + type;
+    }
+
+    private static void writeFile(Path filePath, String content) throws IOException {
+        Files.writeString(filePath, content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.extension;
+
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.util.ProjectPaths;
+import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Provides the compilation of the project of a document, reusing the compilation the workspace manager already
+ * holds for the project.
+ * <p>
+ * The package and its compilation are taken from the same snapshot of the project, so that a model is never built
+ * from the compilation of a package other than the one it is read from. The package is compiled for the request
+ * only when it changes while the workspace compiles it, or the workspace provides no compilation for it. Projects
+ * which are not managed by the workspace are loaded through the workspace manager as well, which keeps them for the
+ * following requests.
+ *
+ * @since 2201.8.0
+ */
+public class CompilationProvider {
+
+    private final WorkspaceManager workspaceManager;
+
+    public CompilationProvider(WorkspaceManager workspaceManager) {
+        this.workspaceManager = workspaceManager;
+    }
+
+    /**
+     * Returns the root of the project of the given document without loading the project. This is the package root for
+     * the documents of a package, and the document itself for a standalone file.
+     *
+     * @param path path of the document
+     * @return root of the project of the document
+     */
+    public Path getProjectRoot(Path path) {
+        try {
+            return ProjectPaths.packageRoot(path).toAbsolutePath();
+        } catch (ProjectException e) {
+            return path.toAbsolutePath();
+        }
+    }
+
+    public ProjectCompilation getProjectCompilation(Path path) throws WorkspaceDocumentException,
+            EventSyncException {
+
+        Optional<Project> project = workspaceManager.project(path);
+        if (project.isPresent()) {
+            // A document change replaces the package, hence the compilation of the workspace is the one of the package
+            // read before it, only if the package is still the current one once the compilation is returned
+            Package currentPackage = project.get().currentPackage();
+            Optional<PackageCompilation> packageCompilation = workspaceManager.waitAndGetPackageCompilation(path);
+            if (packageCompilation.isPresent() && project.get().currentPackage() == currentPackage) {
+                return new ProjectCompilation(project.get(), currentPackage, packageCompilation.get(), true);
+            }
+            Package changedPackage = project.get().currentPackage();
+            return new ProjectCompilation(project.get(), changedPackage, changedPackage.getCompilation(), false);
+        }
+        Project loadedProject = workspaceManager.loadProject(path);
+        Package loadedPackage = loadedProject.currentPackage();
+        return new ProjectCompilation(loadedProject, loadedPackage, loadedPackage.getCompilation(), false);
+    }
+
+    /**
+     * Project of a document together with a snapshot of its current package and the compilation of that snapshot.
+     */
+    public static class ProjectCompilation {
+
+        private final Project project;
+        private final Package currentPackage;
+        private final PackageCompilation packageCompilation;
+        private final boolean cached;
+
+        private ProjectCompilation(Project project, Package currentPackage, PackageCompilation packageCompilation,
+                                   boolean cached) {
+            this.project = project;
+            this.currentPackage = currentPackage;
+            this.packageCompilation = packageCompilation;
+            this.cached = cached;
+        }
+
+        public Project getProject() {
+            return project;
+        }
+
+        public Package getPackage() {
+            return currentPackage;
+        }
+
+        public PackageCompilation getPackageCompilation() {
+            return packageCompilation;
+        }
+
+        /**
+         * Returns whether the compilation is the one held by the workspace, rather than a compilation done for the
+         * request.
+         *
+         * @return true if the compilation was reused from the workspace
+         */
+        public boolean isCached() {
+            return cached;
+        }
+    }
+}
@@ -18,11 +18,7 @@
 
 package io.ballerina.architecturemodelgenerator.extension;
 
-import com.google.gson.JsonObject;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
-import io.ballerina.projects.Package;
-
-import java.util.Map;
 
 /**
  * Provide utils functions for component model building.
@@ -35,9 +31,4 @@ public class Utils {
         return String.format("%s/%s:%s", packageId.getOrg(),
                 packageId.getName(), packageId.getVersion());
     }
-
-    public static boolean modelAlreadyExists(Map<String, JsonObject> componentModelMap, Package currentPackage) {
-        ArchitectureModel.PackageId packageId = new ArchitectureModel.PackageId(currentPackage);
-        return componentModelMap.containsKey(getQualifiedPackageName(packageId));
-    }
 }
@@ -0,0 +1,403 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.extension.architecture;
+
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel.PackageId;
+import io.ballerina.architecturemodelgenerator.core.Constants;
+import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
+import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
+import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
+import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.entrypoint.FunctionEntryPointModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.service.ServiceModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Association;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Attribute;
+import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
+import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
+import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.architecturemodelgenerator.extension.Utils;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.ResolvedPackageDependency;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Caches the architecture model of each project and patches it with the model elements of the documents which
+ * changed since the previous request.
+ * <p>
+ * Services and the function entry point are cached per document, together with the documents visited while
+ * resolving their interactions and the documents declaring the clients they interact through, so that a change also
+ * refreshes the documents which depend on it. Any other dependency between documents is on a module level
+ * declaration, hence a change of the declarations of a document, which excludes the function bodies, refreshes all
+ * the documents. Entities are cached per module, as the associations of a record depend on the other records of the
+ * module. The whole model is refreshed when the resolved dependencies of the package change. The models of the
+ * least recently requested projects are evicted once the cache is full.
+ *
+ * @since 2201.8.0
+ */
+public class ArchitectureModelCache {
+
+    private static final int MAX_CACHED_PACKAGES = 16;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<Path, PackageModel> packageModels = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, PackageModel> eldest) {
+            return size() > MAX_CACHED_PACKAGES;
+        }
+    };
+
+    /**
+     * Returns the architecture model of the given package, which must be the package the given compilation was done
+     * for.
+     *
+     * @param currentPackage     package to generate the model of
+     * @param packageCompilation compilation of the package
+     * @return architecture model of the package
+     */
+    public ArchitectureModel getArchitectureModel(Package currentPackage, PackageCompilation packageCompilation) {
+        PackageModel packageModel;
+        synchronized (packageModels) {
+            packageModel = packageModels.computeIfAbsent(currentPackage.project().sourceRoot().toAbsolutePath(),
+                    sourceRoot -> new PackageModel());
+        }
+        // The models of different packages are updated concurrently, while the model of a package is updated by one
+        // request at a time. An evicted model is still updated and returned by the requests which hold it.
+        synchronized (packageModel) {
+            return packageModel.update(currentPackage, packageCompilation);
+        }
+    }
+
+    private static byte[] getDependenciesDigest(Package currentPackage) {
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            PackageDescriptor descriptor = dependency.packageInstance().descriptor();
+            dependencies.add(descriptor.org().value() + "/" + descriptor.name().value() + ":" +
+                    descriptor.version().toString());
+        }
+        dependencies.sort(Comparator.naturalOrder());
+        return getMessageDigest().digest(String.join(",", dependencies).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Cached model elements of a package.
+     */
+    private static class PackageModel {
+
+        private String qualifiedPackageName;
+        private byte[] dependenciesDigest;
+        private ArchitectureModel architectureModel;
+        private final Map<DocumentId, DocumentState> documentStates = new HashMap<>();
+        private final Map<DocumentId, DocumentModel> documentModels = new HashMap<>();
+        private final Map<ModuleId, ModuleModel> moduleModels = new HashMap<>();
+
+        private ArchitectureModel update(Package currentPackage, PackageCompilation packageCompilation) {
+            PackageId packageId = new PackageId(currentPackage);
+            String packageName = Utils.getQualifiedPackageName(packageId);
+            byte[] currentDependenciesDigest = getDependenciesDigest(currentPackage);
+            if (!packageName.equals(qualifiedPackageName) ||
+                    !Arrays.equals(currentDependenciesDigest, dependenciesDigest)) {
+                // Entity names are qualified with the package name, and the interactions through the clients of the
+                // dependencies depend on their versions, hence nothing can be reused
+                documentModels.clear();
+                moduleModels.clear();
+                architectureModel = null;
+                qualifiedPackageName = packageName;
+                dependenciesDigest = currentDependenciesDigest;
+            }
+
+            List<Module> modules = new ArrayList<>();
+            currentPackage.modules().forEach(modules::add);
+
+            Set<DocumentId> changedDocumentIds = new HashSet<>();
+            Set<ModuleId> changedModuleIds = new HashSet<>();
+            Set<DocumentId> currentDocumentIds = new HashSet<>();
+            boolean declarationsChanged = false;
+            for (Module module : modules) {
+                for (DocumentId documentId : module.documentIds()) {
+                    currentDocumentIds.add(documentId);
+                    SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+                    DocumentState documentState = documentStates.get(documentId);
+                    // Unchanged documents keep their syntax tree, so the content is only digested for changed or
+                    // reloaded documents
+                    if (documentState == null || documentState.syntaxTree.get() != syntaxTree) {
+                        DocumentState currentDocumentState = new DocumentState(syntaxTree);
+                        if (documentState == null || !Arrays.equals(documentState.declarationsDigest,
+                                currentDocumentState.declarationsDigest)) {
+                            declarationsChanged = true;
+                        }
+                        if (documentState == null || !Arrays.equals(documentState.contentDigest,
+                                currentDocumentState.contentDigest)) {
+                            changedDocumentIds.add(documentId);
+                            changedModuleIds.add(module.moduleId());
+                        }
+                        documentStates.put(documentId, currentDocumentState);
+                    }
+                    if (!documentModels.containsKey(documentId)) {
+                        changedDocumentIds.add(documentId);
+                        changedModuleIds.add(module.moduleId());
+                    }
+                }
+            }
+            for (DocumentId documentId : documentStates.keySet()) {
+                if (!currentDocumentIds.contains(documentId)) {
+                    declarationsChanged = true;
+                    changedDocumentIds.add(documentId);
+                    changedModuleIds.add(documentId.moduleId());
+                }
+            }
+            documentStates.keySet().retainAll(currentDocumentIds);
+            documentModels.keySet().retainAll(currentDocumentIds);
+            if (declarationsChanged) {
+                // Documents depend on the module level declarations of the other documents
+                changedDocumentIds.addAll(currentDocumentIds);
+                modules.forEach(module -> changedModuleIds.add(module.moduleId()));
+            }
+            moduleModels.keySet().removeIf(moduleId -> modules.stream()
+                    .noneMatch(module -> module.moduleId().equals(moduleId)));
+
+            if (changedDocumentIds.isEmpty() && architectureModel != null) {
+                return architectureModel;
+            }
+
+            Set<String> changedEntityNames = new HashSet<>();
+            for (ModuleId moduleId : changedModuleIds) {
+                ModuleModel moduleModel = moduleModels.get(moduleId);
+                if (moduleModel != null) {
+                    changedEntityNames.addAll(moduleModel.entities.keySet());
+                }
+            }
+
+            try {
+                generateChangedElements(packageCompilation, modules, changedDocumentIds, changedModuleIds,
+                        changedEntityNames);
+            } catch (CancellationException e) {
+                // The elements which were to be generated by the cancelled request are generated by the next one
+                documentModels.keySet().removeAll(changedDocumentIds);
+                moduleModels.values().removeIf(moduleModel -> moduleModel.hasAssociationWith(changedEntityNames));
+                moduleModels.keySet().removeAll(changedModuleIds);
+                architectureModel = null;
+                throw e;
+            }
+
+            Map<String, Service> services = new HashMap<>();
+            // todo: Change to TypeDefinition
+            Map<String, Entity> entities = new HashMap<>();
+            List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
+            FunctionEntryPoint functionEntryPoint = null;
+            for (Module module : modules) {
+                for (DocumentId documentId : module.documentIds()) {
+                    DocumentModel documentModel = documentModels.get(documentId);
+                    services.putAll(documentModel.services);
+                    diagnostics.addAll(documentModel.diagnostics);
+                    if (documentModel.functionEntryPoint != null) {
+                        functionEntryPoint = documentModel.functionEntryPoint;
+                    }
+                }
+                ModuleModel moduleModel = moduleModels.get(module.moduleId());
+                entities.putAll(moduleModel.entities);
+                diagnostics.addAll(moduleModel.diagnostics);
+            }
+
+            architectureModel = new ArchitectureModel(Constants.MODEL_VERSION, packageId, diagnostics, services,
+                    entities, functionEntryPoint, packageCompilation.diagnosticResult().hasErrors());
+            return architectureModel;
+        }
+
+        private void generateChangedElements(PackageCompilation packageCompilation, List<Module> modules,
+                                             Set<DocumentId> changedDocumentIds, Set<ModuleId> changedModuleIds,
+                                             Set<String> changedEntityNames) {
+            for (Module module : modules) {
+                ServiceModelGenerator serviceModelGenerator = null;
+                FunctionEntryPointModelGenerator functionEntryPointModelGenerator = null;
+                for (DocumentId documentId : module.documentIds()) {
+                    DocumentModel documentModel = documentModels.get(documentId);
+                    if (documentModel != null && !changedDocumentIds.contains(documentId) &&
+                            documentModel.referredDocumentIds.stream().noneMatch(changedDocumentIds::contains)) {
+                        continue;
+                    }
+                    if (serviceModelGenerator == null) {
+                        serviceModelGenerator = new ServiceModelGenerator(packageCompilation, module);
+                        functionEntryPointModelGenerator =
+                                new FunctionEntryPointModelGenerator(packageCompilation, module);
+                    }
+                    documentModels.put(documentId, generateDocumentModel(module, documentId,
+                            serviceModelGenerator, functionEntryPointModelGenerator));
+                }
+
+                ModuleModel moduleModel = moduleModels.get(module.moduleId());
+                if (moduleModel == null || changedModuleIds.contains(module.moduleId()) ||
+                        moduleModel.hasAssociationWith(changedEntityNames)) {
+                    moduleModels.put(module.moduleId(), generateModuleModel(packageCompilation, module));
+                }
+            }
+        }
+
+        private DocumentModel generateDocumentModel(Module module, DocumentId documentId,
+                                                    ServiceModelGenerator serviceModelGenerator,
+                                                    FunctionEntryPointModelGenerator entryPointModelGenerator) {
+            DocumentModel documentModel = new DocumentModel();
+            try {
+                documentModel.services = serviceModelGenerator.generate(documentId,
+                        documentModel.referredDocumentIds);
+            } catch (CancellationException e) {
+                throw e;
+            } catch (Exception e) {
+                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICES,
+                        e.getMessage());
+                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
+                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
+                );
+                documentModel.diagnostics.add(diagnostic);
+            }
+            documentModel.functionEntryPoint = entryPointModelGenerator.generate(documentId,
+                    documentModel.referredDocumentIds);
+            documentModel.referredDocumentIds.remove(documentId);
+            return documentModel;
+        }
+
+        private ModuleModel generateModuleModel(PackageCompilation packageCompilation, Module module) {
+            ModuleModel moduleModel = new ModuleModel();
+            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
+            try {
+                moduleModel.entities = entityModelGenerator.generate();
+            } catch (CancellationException e) {
+                throw e;
+            } catch (Exception e) {
+                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
+                        e.getMessage());
+                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
+                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
+                );
+                moduleModel.diagnostics.add(diagnostic);
+            }
+            return moduleModel;
+        }
+    }
+
+    /**
+     * Cached services and entry point of a document.
+     */
+    private static class DocumentModel {
+
+        private Map<String, Service> services = new HashMap<>();
+        private FunctionEntryPoint functionEntryPoint;
+        private final Set<DocumentId> referredDocumentIds = new HashSet<>();
+        private final List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
+    }
+
+    /**
+     * Digests of the content and of the module level declarations of a document, for the syntax tree they are
+     * computed from.
+     */
+    private static class DocumentState {
+
+        private final WeakReference<SyntaxTree> syntaxTree;
+        private final byte[] contentDigest;
+        private final byte[] declarationsDigest;
+
+        private DocumentState(SyntaxTree syntaxTree) {
+            this.syntaxTree = new WeakReference<>(syntaxTree);
+            MessageDigest messageDigest = getMessageDigest();
+            this.contentDigest = messageDigest.digest(syntaxTree.toSourceCode().getBytes(StandardCharsets.UTF_8));
+            updateDeclarations(messageDigest, syntaxTree.rootNode());
+            this.declarationsDigest = messageDigest.digest();
+        }
+
+        private static void updateDeclarations(MessageDigest messageDigest, Node node) {
+            if (node instanceof FunctionBodyNode) {
+                // The documents which call a function refer to the document of its body
+                return;
+            }
+            if (node instanceof Token) {
+                // The length prefix keeps adjacent tokens from being ambiguous
+                byte[] text = ((Token) node).text().getBytes(StandardCharsets.UTF_8);
+                messageDigest.update(Integer.toString(text.length).getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) ':');
+                messageDigest.update(text);
+                return;
+            }
+            for (Node child : ((NonTerminalNode) node).children()) {
+                updateDeclarations(messageDigest, child);
+            }
+        }
+    }
+
+    /**
+     * Cached entities of a module.
+     */
+    private static class ModuleModel {
+
+        private Map<String, Entity> entities = new HashMap<>();
+        private final List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
+
+        private boolean hasAssociationWith(Set<String> entityNames) {
+            if (entityNames.isEmpty()) {
+                return false;
+            }
+            for (Entity entity : entities.values()) {
+                if (entity.getInclusions().stream().anyMatch(entityNames::contains)) {
+                    return true;
+                }
+                for (Attribute attribute : entity.getAttributes()) {
+                    for (Association association : attribute.getAssociations()) {
+                        if (entityNames.contains(association.getAssociate())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
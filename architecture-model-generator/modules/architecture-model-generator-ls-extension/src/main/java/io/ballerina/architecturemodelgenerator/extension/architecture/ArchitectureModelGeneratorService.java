@@ -18,16 +18,13 @@
 
 package io.ballerina.architecturemodelgenerator.extension.architecture;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
-import io.ballerina.architecturemodelgenerator.core.ArchitectureModelBuilder;
-import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelException;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
+import io.ballerina.architecturemodelgenerator.extension.CompilationProvider;
+import io.ballerina.architecturemodelgenerator.extension.CompilationProvider.ProjectCompilation;
 import io.ballerina.architecturemodelgenerator.extension.Utils;
-import io.ballerina.projects.Project;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -38,12 +35,16 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * The extended service for generation solution architecture model.
@@ -54,11 +55,15 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("projectDesignService")
 public class ArchitectureModelGeneratorService implements ExtendedLanguageServerService {
 
-    private WorkspaceManager workspaceManager;
+    private static final String GET_PROJECT_COMPONENT_MODELS = "getProjectComponentModels:";
+
+    private final ArchitectureModelCache architectureModelCache = new ArchitectureModelCache();
+    private final ModelGeneratorExecutor modelGeneratorExecutor = ModelGeneratorExecutor.getInstance();
+    private CompilationProvider compilationProvider;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.compilationProvider = new CompilationProvider(workspaceManager);
     }
 
     @Override
@@ -70,46 +75,69 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
     public CompletableFuture<ArchitectureModelResponse> getProjectComponentModels
             (ArchitectureModelRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        // Documents of the same project share the model of the project, hence each project is resolved once
+        Map<Path, String> projectDocumentUris = new LinkedHashMap<>();
+        for (String documentUri : request.getDocumentUris()) {
+            projectDocumentUris.putIfAbsent(compilationProvider.getProjectRoot(Path.of(documentUri)), documentUri);
+        }
+
+        // The response only depends on the projects of the documents, hence the requests are coalesced by them. Project
+        // models are the most expensive to build, hence they give way to the models of single documents.
+        String key = GET_PROJECT_COMPONENT_MODELS + projectDocumentUris.keySet().stream()
+                .map(Path::toString).sorted().collect(Collectors.joining(","));
+        return modelGeneratorExecutor.submit(key, ModelGeneratorExecutor.Priority.LOW, () -> {
+            List<Supplier<ProjectModel>> projectModelSuppliers = new ArrayList<>();
+            projectDocumentUris.values().forEach(documentUri ->
+                    projectModelSuppliers.add(() -> generateProjectModel(documentUri)));
+            List<ProjectModel> projectModels = modelGeneratorExecutor.invokeAll(projectModelSuppliers);
+
             ArchitectureModelResponse response = new ArchitectureModelResponse();
-            Map<String, JsonObject> componentModelMap = new HashMap<>();
-            for (String documentUri : request.getDocumentUris()) {
-                Path path = Path.of(documentUri);
-                try {
-                    Project project = getCurrentProject(path);
-                    if (!Utils.modelAlreadyExists(componentModelMap, project.currentPackage())) {
-                        ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
-                        ArchitectureModel projectModel = architectureModelBuilder
-                                .constructComponentModel(project.currentPackage());
-                        Gson gson = new GsonBuilder().serializeNulls().create();
-                        JsonObject componentModelJson = (JsonObject) gson.toJsonTree(projectModel);
-                        componentModelMap.put(Utils.getQualifiedPackageName(
-                                projectModel.getPackageId()), componentModelJson);
-                    }
-                } catch (ArchitectureModelException | WorkspaceDocumentException | EventSyncException e) {
-                    // todo : Improve error messages
-                    DiagnosticMessage message = DiagnosticMessage.ballerinaProjectNotFound(documentUri);
-                    response.addDiagnostics
-                            (DiagnosticUtils.getDiagnosticResponse(List.of(message), response.getDiagnostics()));
-                } catch (Exception e) {
-                    DiagnosticMessage message = DiagnosticMessage.failedToResolveBallerinaPackage(
-                            e.getMessage(), Arrays.toString(e.getStackTrace()), documentUri);
-                    response.addDiagnostics
-                            (DiagnosticUtils.getDiagnosticResponse(List.of(message), response.getDiagnostics()));
+            Map<String, ArchitectureModel> componentModelMap = new HashMap<>();
+            Map<String, Boolean> cachedCompilations = new HashMap<>();
+            for (ProjectModel projectModel : projectModels) {
+                if (projectModel.diagnosticMessage != null) {
+                    response.addDiagnostics(DiagnosticUtils.getDiagnosticResponse(
+                            List.of(projectModel.diagnosticMessage), response.getDiagnostics()));
+                    continue;
+                }
+                String packageName = Utils.getQualifiedPackageName(projectModel.architectureModel.getPackageId());
+                if (!componentModelMap.containsKey(packageName)) {
+                    componentModelMap.put(packageName, projectModel.architectureModel);
+                    cachedCompilations.put(packageName, projectModel.cachedCompilation);
                 }
             }
             response.setComponentModels(componentModelMap);
+            response.setCachedCompilations(cachedCompilations);
             return response;
         });
     }
 
-    private Project getCurrentProject(Path path) throws ArchitectureModelException, WorkspaceDocumentException,
-            EventSyncException {
-
-        Optional<Project> project = workspaceManager.project(path);
-        if (project.isEmpty()) {
-            return workspaceManager.loadProject(path);
+    private ProjectModel generateProjectModel(String documentUri) {
+        ProjectModel projectModel = new ProjectModel();
+        try {
+            ProjectCompilation projectCompilation = compilationProvider.getProjectCompilation(Path.of(documentUri));
+            projectModel.architectureModel = architectureModelCache.getArchitectureModel(
+                    projectCompilation.getPackage(), projectCompilation.getPackageCompilation());
+            projectModel.cachedCompilation = projectCompilation.isCached();
+        } catch (WorkspaceDocumentException | EventSyncException e) {
+            // todo : Improve error messages
+            projectModel.diagnosticMessage = DiagnosticMessage.ballerinaProjectNotFound(documentUri);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            projectModel.diagnosticMessage = DiagnosticMessage.failedToResolveBallerinaPackage(
+                    e.getMessage(), Arrays.toString(e.getStackTrace()), documentUri);
         }
-        return project.get();
+        return projectModel;
+    }
+
+    /**
+     * Architecture model of a project, or the diagnostic of the failure to generate it.
+     */
+    private static class ProjectModel {
+
+        private ArchitectureModel architectureModel;
+        private boolean cachedCompilation;
+        private DiagnosticMessage diagnosticMessage;
     }
 }
@@ -18,7 +18,9 @@
 
 package io.ballerina.architecturemodelgenerator.extension.architecture;
 
-import com.google.gson.JsonObject;
+import com.google.gson.annotations.JsonAdapter;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.serialization.ArchitectureModelMapJsonAdapter;
 import io.ballerina.architecturemodelgenerator.extension.ModelResponse;
 
 import java.util.ArrayList;
@@ -32,21 +34,34 @@ import java.util.Map;
  */
 public class ArchitectureModelResponse extends ModelResponse {
 
-    private Map<String, JsonObject> componentModels = new HashMap<>();
+    // Models are written straight to the response stream, without building a JSON tree of them beforehand
+    @JsonAdapter(ArchitectureModelMapJsonAdapter.class)
+    private Map<String, ArchitectureModel> componentModels = new HashMap<>();
+
+    // Whether the model of each package was generated from the compilation held by the workspace
+    private Map<String, Boolean> cachedCompilations = new HashMap<>();
 
     public ArchitectureModelResponse() {
         super(new ArrayList<>());
     }
 
-    public Map<String, JsonObject> getComponentModels() {
+    public Map<String, ArchitectureModel> getComponentModels() {
         return componentModels;
     }
 
-    public void setComponentModels(Map<String, JsonObject> componentModels) {
+    public void setComponentModels(Map<String, ArchitectureModel> componentModels) {
         this.componentModels = componentModels;
     }
 
-    public void addComponentModel(String key, JsonObject jsonObject) {
-        componentModels.put(key, jsonObject);
+    public void addComponentModel(String key, ArchitectureModel componentModel) {
+        componentModels.put(key, componentModel);
+    }
+
+    public Map<String, Boolean> getCachedCompilations() {
+        return cachedCompilations;
+    }
+
+    public void setCachedCompilations(Map<String, Boolean> cachedCompilations) {
+        this.cachedCompilations = cachedCompilations;
     }
 }
@@ -18,19 +18,19 @@
 
 package io.ballerina.architecturemodelgenerator.extension.persist;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
 import io.ballerina.architecturemodelgenerator.core.Constants;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
-import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelException;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
+import io.ballerina.architecturemodelgenerator.extension.CompilationProvider;
+import io.ballerina.architecturemodelgenerator.extension.CompilationProvider.ProjectCompilation;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
-import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -47,8 +47,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * The extended service for generation solution architecture model.
@@ -59,11 +61,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @JsonSegment("persistERGeneratorService")
 public class PersistERModelGeneratorService implements ExtendedLanguageServerService {
 
-    private WorkspaceManager workspaceManager;
+    private static final String GET_PERSIST_ER_MODELS = "getPersistERModels:";
+
+    private final ModelGeneratorExecutor modelGeneratorExecutor = ModelGeneratorExecutor.getInstance();
+    private CompilationProvider compilationProvider;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        this.workspaceManager = workspaceManager;
+        this.compilationProvider = new CompilationProvider(workspaceManager);
     }
 
     @Override
@@ -73,20 +78,29 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
 
     @JsonRequest
     public CompletableFuture<PersistERModelResponse> getPersistERModels(PersistERModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        String key = GET_PERSIST_ER_MODELS + request.getDocumentUri() + ":" +
+                (request.isAllModules() ? "*" : request.getModules());
+        return modelGeneratorExecutor.submit(key, ModelGeneratorExecutor.Priority.NORMAL, () -> {
             PersistERModelResponse response = new PersistERModelResponse();
 
             Path path = Path.of(request.getDocumentUri());
             AtomicBoolean hasDiagnosticErrors = new AtomicBoolean(false);
             Map<String, Entity> entities = new HashMap<>();
             try {
-                Project project = getCurrentProject(path);
-                PackageCompilation currentPackageCompilation = project.currentPackage().getCompilation();
-                EntityModelGenerator entityModelGenerator =
-                        new EntityModelGenerator(currentPackageCompilation,
-                                project.currentPackage().getDefaultModule());
+                ProjectCompilation projectCompilation = compilationProvider.getProjectCompilation(path);
+                PackageCompilation currentPackageCompilation = projectCompilation.getPackageCompilation();
+                response.setCachedCompilation(projectCompilation.isCached());
+                List<Module> modules = new ArrayList<>();
+                List<String> missingModuleNames = new ArrayList<>();
+                resolveModules(projectCompilation.getPackage(), request, modules, missingModuleNames);
+                for (String moduleName : missingModuleNames) {
+                    hasDiagnosticErrors.set(true);
+                    DiagnosticMessage message = DiagnosticMessage.moduleNotFound(moduleName, path.toString());
+                    response.addDiagnostics
+                            (DiagnosticUtils.getDiagnosticResponse(List.of(message), response.getDiagnostics()));
+                }
 
-                entities = entityModelGenerator.generate();
+                entities = generateEntities(currentPackageCompilation, modules);
                 if (currentPackageCompilation.diagnosticResult().hasErrors()) {
                     hasDiagnosticErrors.set(true);
                     List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
@@ -99,12 +113,14 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
                     });
                     response.addDiagnostics(diagnostics);
                 }
-            } catch (ArchitectureModelException | WorkspaceDocumentException | EventSyncException e) {
+            } catch (WorkspaceDocumentException | EventSyncException e) {
                 // todo : Improve error messages
                 hasDiagnosticErrors.set(true);
                 DiagnosticMessage message = DiagnosticMessage.ballerinaProjectNotFound(path.toString());
                 response.addDiagnostics
                         (DiagnosticUtils.getDiagnosticResponse(List.of(message), response.getDiagnostics()));
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
                 hasDiagnosticErrors.set(true);
                 DiagnosticMessage message = DiagnosticMessage.failedToResolveBallerinaPackage(path.toString(),
@@ -115,21 +131,61 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
 
             ArchitectureModel architectureModel = new ArchitectureModel(Constants.MODEL_VERSION, null,
                     response.getDiagnostics(), new HashMap<>(), entities, null, hasDiagnosticErrors.get());
-            Gson gson = new GsonBuilder().serializeNulls().create();
-            JsonObject persistERModel = (JsonObject) gson.toJsonTree(architectureModel);
-
-            response.setPersistERModels(persistERModel);
+            response.setPersistERModels(architectureModel);
             return response;
         });
     }
 
-    private Project getCurrentProject(Path path) throws ArchitectureModelException, WorkspaceDocumentException,
-            EventSyncException {
+    private void resolveModules(Package currentPackage, PersistERModelRequest request, List<Module> modules,
+                                List<String> missingModuleNames) {
+        if (request.isAllModules()) {
+            currentPackage.modules().forEach(modules::add);
+            return;
+        }
+        if (request.getModules() == null || request.getModules().isEmpty()) {
+            modules.add(currentPackage.getDefaultModule());
+            return;
+        }
+        for (String moduleName : request.getModules()) {
+            Optional<Module> module = findModule(currentPackage, moduleName);
+            if (module.isEmpty()) {
+                missingModuleNames.add(moduleName);
+            } else if (!modules.contains(module.get())) {
+                modules.add(module.get());
+            }
+        }
+    }
+
+    private Optional<Module> findModule(Package currentPackage, String moduleName) {
+        for (Module module : currentPackage.modules()) {
+            // Modules can be given with their qualified name, or with the name of the submodule
+            if (moduleName.equals(module.moduleName().toString()) ||
+                    moduleName.equals(module.moduleName().moduleNamePart())) {
+                return Optional.of(module);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Generate the entities of the given modules, in parallel when there are several modules, and merge them into a
+     * single map. Entity names are qualified with the module name, hence the entities of different modules never
+     * collide.
+     */
+    private Map<String, Entity> generateEntities(PackageCompilation packageCompilation, List<Module> modules) {
+        if (modules.size() == 1) {
+            return new EntityModelGenerator(packageCompilation, modules.get(0)).generate();
+        }
 
-        Optional<Project> project = workspaceManager.project(path);
-        if (project.isEmpty()) {
-            return workspaceManager.loadProject(path);
+        List<Supplier<Map<String, Entity>>> moduleEntities = new ArrayList<>();
+        for (Module module : modules) {
+            // Generators are created on the calling thread, as it resolves the semantic model of the module
+            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
+            moduleEntities.add(entityModelGenerator::generate);
         }
-        return project.get();
+
+        Map<String, Entity> entities = new HashMap<>();
+        modelGeneratorExecutor.invokeAll(moduleEntities).forEach(entities::putAll);
+        return entities;
     }
 }
@@ -18,6 +18,8 @@
 
 package io.ballerina.architecturemodelgenerator.extension.persist;
 
+import java.util.List;
+
 /**
  * Request for Persist ER Model.
  *
@@ -26,6 +28,9 @@ package io.ballerina.architecturemodelgenerator.extension.persist;
 public class PersistERModelRequest {
 
     private String documentUri;
+    // Modules to generate the entities of. The default module is used when no module is given
+    private List<String> modules;
+    private boolean allModules;
 
     public String getDocumentUri() {
         return documentUri;
@@ -34,4 +39,20 @@ public class PersistERModelRequest {
     public void setDocumentUri(String documentUri) {
         this.documentUri = documentUri;
     }
+
+    public List<String> getModules() {
+        return modules;
+    }
+
+    public void setModules(List<String> modules) {
+        this.modules = modules;
+    }
+
+    public boolean isAllModules() {
+        return allModules;
+    }
+
+    public void setAllModules(boolean allModules) {
+        this.allModules = allModules;
+    }
 }
@@ -18,7 +18,9 @@
 
 package io.ballerina.architecturemodelgenerator.extension.persist;
 
-import com.google.gson.JsonObject;
+import com.google.gson.annotations.JsonAdapter;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.serialization.ArchitectureModelJsonAdapter;
 import io.ballerina.architecturemodelgenerator.extension.ModelResponse;
 
 import java.util.ArrayList;
@@ -30,17 +32,30 @@ import java.util.ArrayList;
  */
 public class PersistERModelResponse extends ModelResponse {
 
-    private JsonObject persistERModel = new JsonObject();
+    // The model is written straight to the response stream, without building a JSON tree of it beforehand
+    @JsonAdapter(ArchitectureModelJsonAdapter.class)
+    private ArchitectureModel persistERModel;
+
+    // Whether the model was generated from the compilation held by the workspace
+    private boolean cachedCompilation;
 
     public PersistERModelResponse() {
         super(new ArrayList<>());
     }
 
-    public JsonObject getPersistERModels() {
+    public ArchitectureModel getPersistERModels() {
         return persistERModel;
     }
 
-    public void setPersistERModels(JsonObject persistERModel) {
+    public void setPersistERModels(ArchitectureModel persistERModel) {
         this.persistERModel = persistERModel;
     }
+
+    public boolean isCachedCompilation() {
+        return cachedCompilation;
+    }
+
+    public void setCachedCompilation(boolean cachedCompilation) {
+        this.cachedCompilation = cachedCompilation;
+    }
 }
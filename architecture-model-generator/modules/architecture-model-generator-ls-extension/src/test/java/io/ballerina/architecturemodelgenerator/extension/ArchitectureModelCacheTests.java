@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.extension;
+
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
+import io.ballerina.architecturemodelgenerator.core.model.service.Resource;
+import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.architecturemodelgenerator.extension.architecture.ArchitectureModelCache;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test the refresh of the cached architecture models when the documents of a package are edited.
+ *
+ * @since 2201.8.0
+ */
+public class ArchitectureModelCacheTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina",
+            "document_dependencies").toAbsolutePath();
+    private static final String SERVICE_ID = "orders";
+
+    private Project project;
+    private ArchitectureModelCache architectureModelCache;
+
+    @BeforeMethod
+    public void loadProject() {
+        BuildOptions buildOptions = BuildOptions.builder().setOffline(true).build();
+        project = BuildProject.load(PROJECT_PATH, buildOptions);
+        architectureModelCache = new ArchitectureModelCache();
+    }
+
+    @Test(description = "test the reuse of the model of an unchanged package")
+    public void testUnchangedPackage() {
+        ArchitectureModel architectureModel = getArchitectureModel(project.currentPackage());
+        Assert.assertSame(getArchitectureModel(project.currentPackage()), architectureModel);
+
+        // The IDs of the clients without a display annotation are the same for every compilation of the package
+        Project reloadedProject = BuildProject.load(PROJECT_PATH, BuildOptions.builder().setOffline(true).build());
+        Package reloadedPackage = reloadedProject.currentPackage();
+        ArchitectureModel reloadedModel = new ArchitectureModelCache().getArchitectureModel(reloadedPackage,
+                reloadedPackage.getCompilation());
+        Assert.assertEquals(getInteraction(reloadedModel, "stock").getResourceId().getServiceId(),
+                getInteraction(architectureModel, "stock").getResourceId().getServiceId());
+    }
+
+    @Test(description = "test the reuse of the services of a document when an unrelated function body is edited")
+    public void testEditOfUnrelatedFunctionBody() {
+        Service service = getService(getArchitectureModel(project.currentPackage()));
+
+        Package editedPackage = editDocument("utils.bal", "name.trim()", "name.trim().toUpperAscii()");
+
+        Service refreshedService = getService(getArchitectureModel(editedPackage));
+        Assert.assertSame(refreshedService, service);
+    }
+
+    @Test(description = "test the refresh of a service when the body of a function it calls is edited")
+    public void testEditOfCalledFunctionBody() {
+        Service service = getService(getArchitectureModel(project.currentPackage()));
+        Assert.assertEquals(getInteraction(service, "orders").getResourceId().getPath(), "orders");
+
+        Package editedPackage = editDocument("functions.bal", "/orders.get()", "/purchases.get()");
+
+        Service refreshedService = getService(getArchitectureModel(editedPackage));
+        Assert.assertNotSame(refreshedService, service);
+        Assert.assertEquals(getInteraction(refreshedService, "orders").getResourceId().getPath(), "purchases");
+    }
+
+    @Test(description = "test the refresh of a service when the declaration of a client it uses is moved")
+    public void testEditOfClientDeclaration() {
+        Service service = getService(getArchitectureModel(project.currentPackage()));
+        String serviceId = getInteraction(service, "stock").getResourceId().getServiceId();
+
+        Package editedPackage = editDocument("clients.bal", "import ballerina/http;\n",
+                "import ballerina/http;\n\n// Clients of the backends\n");
+
+        Service refreshedService = getService(getArchitectureModel(editedPackage));
+        Assert.assertNotSame(refreshedService, service);
+        Assert.assertNotEquals(getInteraction(refreshedService, "stock").getResourceId().getServiceId(), serviceId);
+    }
+
+    @Test(description = "test the refresh of all the documents when a module level declaration is added")
+    public void testEditOfDeclarations() {
+        Service service = getService(getArchitectureModel(project.currentPackage()));
+
+        Package editedPackage = editDocument("utils.bal", "function formatName",
+                "const string SEPARATOR = \"/\";\n\nfunction formatName");
+
+        Service refreshedService = getService(getArchitectureModel(editedPackage));
+        Assert.assertNotSame(refreshedService, service);
+    }
+
+    private ArchitectureModel getArchitectureModel(Package currentPackage) {
+        return architectureModelCache.getArchitectureModel(currentPackage, currentPackage.getCompilation());
+    }
+
+    private Package editDocument(String documentName, String target, String replacement) {
+        Module module = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(documentName)) {
+                String content = document.syntaxTree().toSourceCode();
+                Assert.assertTrue(content.contains(target));
+                return document.modify().withContent(content.replace(target, replacement)).apply()
+                        .module().packageInstance();
+            }
+        }
+        throw new IllegalArgumentException("Document not found: " + documentName);
+    }
+
+    private static Service getService(ArchitectureModel architectureModel) {
+        Service service = architectureModel.getServices().get(SERVICE_ID);
+        Assert.assertNotNull(service);
+        return service;
+    }
+
+    private static Interaction getInteraction(ArchitectureModel architectureModel, String resourcePath) {
+        return getInteraction(getService(architectureModel), resourcePath);
+    }
+
+    private static Interaction getInteraction(Service service, String resourcePath) {
+        for (Resource resource : service.getResources()) {
+            if (resource.getResourceId().getPath().equals(resourcePath)) {
+                Assert.assertEquals(resource.getInteractions().size(), 1);
+                return resource.getInteractions().get(0);
+            }
+        }
+        throw new IllegalArgumentException("Resource not found: " + resourcePath);
+    }
+}
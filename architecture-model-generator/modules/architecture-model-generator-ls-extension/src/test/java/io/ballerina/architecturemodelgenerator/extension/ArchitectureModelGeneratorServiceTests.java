@@ -20,23 +20,33 @@ package io.ballerina.architecturemodelgenerator.extension;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
 import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
+import io.ballerina.architecturemodelgenerator.extension.architecture.ArchitectureModelGeneratorService;
 import io.ballerina.architecturemodelgenerator.extension.architecture.ArchitectureModelRequest;
 import io.ballerina.architecturemodelgenerator.extension.architecture.ArchitectureModelResponse;
+import org.ballerinalang.langserver.LanguageServerContextImpl;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -73,8 +83,9 @@ public class ArchitectureModelGeneratorServiceTests {
         CompletableFuture<?> result = serviceEndpoint.request(PROJECT_DESIGN_SERVICE, request);
         ArchitectureModelResponse response = (ArchitectureModelResponse) result.get();
 
-        JsonObject generatedJson = response.getComponentModels().get("test/reservation_api:0.1.0");
-        ArchitectureModel generatedModel = gson.fromJson(generatedJson, ArchitectureModel.class);
+        ArchitectureModel generatedModel = response.getComponentModels().get("test/reservation_api:0.1.0");
+        // The document is open, hence the compilation held by the workspace is reused
+        Assert.assertTrue(response.getCachedCompilations().get("test/reservation_api:0.1.0"));
         ArchitectureModel expectedModel = getComponentFromGivenJsonFile(expectedJsonPath);
 
         // Services
@@ -102,6 +113,11 @@ public class ArchitectureModelGeneratorServiceTests {
                         .replaceAll("\"serviceId\": ?\"-?\\d*\"", "\"serviceId\": null"));
         Assert.assertEquals(generatedFuncEntryPointStr, expectedFuncEntryPointStr);
 
+        // The models are streamed into the response as the JSON-RPC layer serializes it, which drops null fields
+        Gson jsonRpcGson = new Gson();
+        JsonElement responseModel = JsonParser.parseString(jsonRpcGson.toJson(response)).getAsJsonObject()
+                .getAsJsonObject("componentModels").get("test/reservation_api:0.1.0");
+        Assert.assertEquals(responseModel, JsonParser.parseString(jsonRpcGson.toJson(gson.toJsonTree(generatedModel))));
     }
 
     @Test(description = "test model generation for multiple projects with grpc and http services")
@@ -122,10 +138,11 @@ public class ArchitectureModelGeneratorServiceTests {
         CompletableFuture<?> result = serviceEndpoint.request(PROJECT_DESIGN_SERVICE, request);
         ArchitectureModelResponse response = (ArchitectureModelResponse) result.get();
 
-        response.getComponentModels().forEach((key, value) -> {
+        response.getComponentModels().forEach((key, generatedModel) -> {
+            // The projects are not open in the workspace, hence they are loaded and compiled for the request
+            Assert.assertFalse(response.getCachedCompilations().get(key));
             String jsonFileName = key.split("/")[1].split(":")[0] + ".json";
             Path expectedJsonPath = RES_DIR.resolve(RESULTS).resolve(Path.of(jsonFileName));
-            ArchitectureModel generatedModel = gson.fromJson(value, ArchitectureModel.class);
             try {
                 ArchitectureModel expectedModel = getComponentFromGivenJsonFile(expectedJsonPath.toAbsolutePath());
                 generatedModel.getServices().forEach((id, service) -> {
@@ -146,6 +163,46 @@ public class ArchitectureModelGeneratorServiceTests {
         });
     }
 
+    @Test(description = "test model generation for multiple documents of the same projects")
+    public void testDocumentsOfSameProjects() throws ExecutionException, InterruptedException {
+
+        Path cartDirectory = RES_DIR.resolve(BALLERINA).resolve(Path.of("microservice_grpc", "cart"));
+        Path checkoutDirectory = RES_DIR.resolve(BALLERINA).resolve(Path.of("microservice_grpc", "checkout"));
+
+        ArchitectureModelRequest request = new ArchitectureModelRequest();
+        request.setDocumentUris(List.of(cartDirectory.resolve("cart_service.bal").toString(),
+                checkoutDirectory.resolve("checkout_service.bal").toString(),
+                cartDirectory.resolve("datastores.bal").toString(),
+                cartDirectory.resolve("types.bal").toString(),
+                checkoutDirectory.resolve("clients.bal").toString()));
+
+        // Counts the projects resolved through the workspace manager, by the directory of the resolved document
+        Map<Path, Integer> resolvedProjects = new ConcurrentHashMap<>();
+        WorkspaceManager workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        WorkspaceManager countingWorkspaceManager = (WorkspaceManager) Proxy.newProxyInstance(
+                WorkspaceManager.class.getClassLoader(), new Class<?>[]{WorkspaceManager.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("project")) {
+                        resolvedProjects.merge(((Path) args[0]).getParent(), 1, Integer::sum);
+                    }
+                    try {
+                        return method.invoke(workspaceManager, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        ArchitectureModelGeneratorService service = new ArchitectureModelGeneratorService();
+        service.init(null, countingWorkspaceManager);
+
+        ArchitectureModelResponse response = service.getProjectComponentModels(request).get();
+
+        // Each project is resolved once, whatever the number of its documents in the request
+        Assert.assertEquals(resolvedProjects, Map.of(cartDirectory, 1, checkoutDirectory, 1));
+        Assert.assertEquals(response.getComponentModels().keySet(), Set.of("test/cart_service:0.1.0",
+                "test/checkout_service:0.1.0"));
+        Assert.assertTrue(response.getDiagnostics().isEmpty());
+    }
+
     public static ArchitectureModel getComponentFromGivenJsonFile(Path expectedFilePath) throws IOException {
         Stream<String> lines = Files.lines(expectedFilePath);
         String content = lines.collect(Collectors.joining(System.lineSeparator()));
@@ -20,7 +20,6 @@ package io.ballerina.architecturemodelgenerator.extension;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
 import io.ballerina.architecturemodelgenerator.extension.persist.PersistERModelRequest;
 import io.ballerina.architecturemodelgenerator.extension.persist.PersistERModelResponse;
@@ -34,6 +33,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -71,8 +71,7 @@ public class PersistERModelGeneratorTests {
         CompletableFuture<?> result = serviceEndpoint.request(PERSIST_ER_MODEL_SERVICE, request);
         PersistERModelResponse response = (PersistERModelResponse) result.get();
 
-        JsonObject generatedJsonObject = response.getPersistERModels();
-        ArchitectureModel generatedModel = gson.fromJson(generatedJsonObject, ArchitectureModel.class);
+        ArchitectureModel generatedModel = response.getPersistERModels();
         ArchitectureModel expectedModel = getEntityModels(expectedJsonPath);
 
         String generatedERModelString = TestUtils.replaceStdLibVersionStrings(gson.toJson(generatedModel.getEntities())
@@ -84,6 +83,52 @@ public class PersistERModelGeneratorTests {
         Assert.assertEquals(generatedERModelString, expectedERModelString);
     }
 
+    @Test(description = "Test Persist ER Model generation for all the modules of a package")
+    public void testAllModulesERModelGeneration() throws IOException, ExecutionException, InterruptedException {
+
+        Path balFile = RES_DIR.resolve(BALLERINA).resolve(Path.of("reservation_api", "types.bal"));
+        Path expectedJsonPath = RES_DIR.resolve(RESULTS).resolve(Path.of("reservation_api_model.json"));
+
+        PersistERModelRequest request = new PersistERModelRequest();
+        request.setDocumentUri(balFile.toString());
+        request.setAllModules(true);
+
+        CompletableFuture<?> result = serviceEndpoint.request(PERSIST_ER_MODEL_SERVICE, request);
+        PersistERModelResponse response = (PersistERModelResponse) result.get();
+
+        // The entities of every module are merged, as in the architecture model of the package
+        ArchitectureModel generatedModel = response.getPersistERModels();
+        ArchitectureModel expectedModel = getEntityModels(expectedJsonPath);
+        Assert.assertEquals(generatedModel.getEntities().keySet(), expectedModel.getEntities().keySet());
+        String generatedERModelString = TestUtils.replaceStdLibVersionStrings(gson.toJson(generatedModel.getEntities())
+                .replaceAll("\\s+", "")
+                .replaceAll("\\\\\\\\", "/"));
+        String expectedERModelString = TestUtils.replaceStdLibVersionStrings(gson.toJson(expectedModel.getEntities())
+                .replaceAll("\\s+", "")
+                .replaceAll("\\{srcPath}", RES_DIR.toString().replaceAll("\\\\", "/")));
+        Assert.assertEquals(generatedERModelString, expectedERModelString);
+    }
+
+    @Test(description = "Test Persist ER Model generation for selected modules of a package")
+    public void testSelectedModulesERModelGeneration() throws ExecutionException, InterruptedException {
+
+        Path balFile = RES_DIR.resolve(BALLERINA).resolve(Path.of("reservation_api", "types.bal"));
+
+        PersistERModelRequest request = new PersistERModelRequest();
+        request.setDocumentUri(balFile.toString());
+        request.setModules(List.of("seat_allocation_api", "missing_module"));
+
+        CompletableFuture<?> result = serviceEndpoint.request(PERSIST_ER_MODEL_SERVICE, request);
+        PersistERModelResponse response = (PersistERModelResponse) result.get();
+
+        ArchitectureModel generatedModel = response.getPersistERModels();
+        Assert.assertFalse(generatedModel.getEntities().isEmpty());
+        generatedModel.getEntities().keySet().forEach(entityName ->
+                Assert.assertTrue(entityName.contains("reservation_api.seat_allocation_api"), entityName));
+        Assert.assertTrue(response.getDiagnostics().stream()
+                .anyMatch(diagnostic -> diagnostic.message().contains("missing_module")));
+    }
+
     public static ArchitectureModel getEntityModels(Path expectedFilePath) throws IOException {
         Stream<String> lines = Files.lines(expectedFilePath);
         String content = lines.collect(Collectors.joining(System.lineSeparator()));
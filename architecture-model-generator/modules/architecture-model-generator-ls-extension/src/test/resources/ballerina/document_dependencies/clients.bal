@@ -0,0 +1,4 @@
+import ballerina/http;
+
+final http:Client ordersClient = check new ("http://localhost:9091");
+final http:Client inventoryClient = check new ("http://localhost:9092");
@@ -0,0 +1,3 @@
+function getOrders() returns json|error {
+    return ordersClient->/orders.get();
+}
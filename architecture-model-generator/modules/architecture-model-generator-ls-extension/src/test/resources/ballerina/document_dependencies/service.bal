@@ -0,0 +1,15 @@
+import ballerina/http;
+
+@display {
+    label: "Orders",
+    id: "orders"
+}
+service /orders on new http:Listener(9090) {
+    resource function get orders() returns json|error {
+        return getOrders();
+    }
+
+    resource function get stock() returns json|error {
+        return inventoryClient->/stock.get();
+    }
+}
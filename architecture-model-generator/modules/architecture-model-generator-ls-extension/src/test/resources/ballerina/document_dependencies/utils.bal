@@ -0,0 +1,3 @@
+function formatName(string name) returns string {
+    return name.trim();
+}
@@ -17,11 +17,14 @@
 package io.ballerina.architecturemodelgenerator.plugin;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
 import io.ballerina.architecturemodelgenerator.core.ArchitectureModelBuilder;
+import io.ballerina.architecturemodelgenerator.core.serialization.ArchitectureModelGson;
 import io.ballerina.architecturemodelgenerator.plugin.diagnostic.DiagnosticMessage;
 import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CompilationAnalysisContext;
@@ -29,15 +32,21 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.NoSuchAlgorithmException;
 
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.COMPACT_MODEL_PROPERTY;
 import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_DIR_NAME;
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_FINGERPRINT_NAME;
 import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_JSON_NAME;
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.TEMP_FILE_SUFFIX;
 
 /**
  * Compilation analyzer to generate component model.
@@ -45,6 +54,7 @@ import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MOD
  * @since 2201.4.0
  */
 public class CompilationAnalysisTask implements AnalysisTask<CompilationAnalysisContext> {
+
     @Override
     public void perform(CompilationAnalysisContext compilationAnalysisContext) {
         Project project = compilationAnalysisContext.currentPackage().project();
@@ -53,24 +63,63 @@ public class CompilationAnalysisTask implements AnalysisTask<CompilationAnalysis
         BuildOptions buildOptions = project.buildOptions();
         if (buildOptions.exportComponentModel()) {
             Path outPath = project.targetDir();
+            boolean isCompact = Boolean.getBoolean(COMPACT_MODEL_PROPERTY);
+            String fingerprint = getFingerprint(compilationAnalysisContext.currentPackage(), isCompact);
+            if (fingerprint != null && isExportedModelUpToDate(outPath, fingerprint)) {
+                return;
+            }
             ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
             ArchitectureModel projectModel = architectureModelBuilder
                     .constructComponentModel(compilationAnalysisContext.currentPackage(),
                             compilationAnalysisContext.compilation());
-            Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
-            String componentModelJson = gson.toJson(projectModel) + System.lineSeparator();
-            writeComponentModelJson(outPath, componentModelJson, compilationAnalysisContext);
+            Gson gson = isCompact ? ArchitectureModelGson.GSON : ArchitectureModelGson.PRETTY_GSON;
+            writeComponentModelJson(outPath, projectModel, gson, fingerprint, compilationAnalysisContext);
         }
     }
 
-    private void writeComponentModelJson(Path outPath, String componentModelJson, CompilationAnalysisContext context) {
+    private String getFingerprint(Package currentPackage, boolean isCompact) {
+        try {
+            return ModelFingerprint.compute(currentPackage, isCompact);
+        } catch (NoSuchAlgorithmException | RuntimeException e) {
+            // The model is exported on every build if the fingerprint cannot be computed
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the model exported to the given target directory was generated for the given fingerprint, in
+     * which case the build skips generating and writing the model again.
+     *
+     * @param outPath     target directory of the build
+     * @param fingerprint fingerprint of the inputs of the model
+     * @return true if the exported model is up to date
+     */
+    static boolean isExportedModelUpToDate(Path outPath, String fingerprint) {
+        try {
+            Path componentModelExportDir = outPath.resolve(MODEL_DIR_NAME);
+            Path fingerprintPath = componentModelExportDir.resolve(MODEL_FINGERPRINT_NAME);
+            return Files.exists(componentModelExportDir.resolve(MODEL_JSON_NAME)) && Files.exists(fingerprintPath) &&
+                    fingerprint.equals(Files.readString(fingerprintPath, StandardCharsets.UTF_8).trim());
+        } catch (InvalidPathException | SecurityException | IOException e) {
+            return false;
+        }
+    }
+
+    private void writeComponentModelJson(Path outPath, ArchitectureModel projectModel, Gson gson, String fingerprint,
+                                         CompilationAnalysisContext context) {
         try {
             // Create ComponentModel directory if not exists in the path. If exists do not throw an error
             Path componentModelExportDir = outPath.resolve(MODEL_DIR_NAME);
             Files.createDirectories(componentModelExportDir);
+            // Remove the previous fingerprint first, so that it never outlives the model it was computed for
+            Path fingerprintPath = componentModelExportDir.resolve(MODEL_FINGERPRINT_NAME);
+            Files.deleteIfExists(fingerprintPath);
             Path writePath = componentModelExportDir.resolve(MODEL_JSON_NAME);
-            writeFile(writePath, componentModelJson);
-        } catch (InvalidPathException | SecurityException | IOException e) {
+            writeFile(writePath, projectModel, gson);
+            if (fingerprint != null) {
+                Files.writeString(fingerprintPath, fingerprint + System.lineSeparator(), StandardCharsets.UTF_8);
+            }
+        } catch (InvalidPathException | SecurityException | IOException | JsonIOException e) {
             DiagnosticMessage diagnosticMessage = DiagnosticMessage.ERROR_100;
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticMessage.getCode(),
                     diagnosticMessage.getMessageFormat(), diagnosticMessage.getSeverity());
@@ -79,9 +128,27 @@ public class CompilationAnalysisTask implements AnalysisTask<CompilationAnalysis
         }
     }
 
-    private void writeFile(Path filePath, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
+    /**
+     * Stream the model to a temporary file in the export directory and move it to the given path, so that the model
+     * is never held in memory as a string and readers never observe a partially written file.
+     */
+    private void writeFile(Path filePath, ArchitectureModel projectModel, Gson gson) throws IOException {
+        Path tempFilePath = Files.createTempFile(filePath.getParent(), MODEL_JSON_NAME, TEMP_FILE_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFilePath, StandardCharsets.UTF_8);
+                 JsonWriter jsonWriter = gson.newJsonWriter(writer)) {
+                gson.toJson(projectModel, ArchitectureModel.class, jsonWriter);
+                jsonWriter.flush();
+                writer.write(System.lineSeparator());
+            }
+            try {
+                Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFilePath);
         }
     }
 }
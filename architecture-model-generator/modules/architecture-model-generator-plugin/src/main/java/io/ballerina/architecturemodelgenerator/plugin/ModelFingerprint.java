@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.plugin;
+
+import io.ballerina.architecturemodelgenerator.core.Constants;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ResolvedPackageDependency;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.PLUGIN_PROPERTIES_NAME;
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.PLUGIN_VERSION_PROPERTY;
+
+/**
+ * Fingerprint of the inputs of the exported component model.
+ * <p>
+ * The fingerprint is a digest over the model version, the version of the plugin, the export format, the package
+ * descriptor, the versions of the resolved dependencies and the absolute paths and contents of the documents of each
+ * module. The paths are part of the digest, as the model records the locations of its elements, and the plugin
+ * version is, as another generator may produce another model from the same sources. A build can skip generating and
+ * writing the component model when the fingerprint of the previous export is unchanged.
+ *
+ * @since 2201.8.0
+ */
+public class ModelFingerprint {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String PLUGIN_VERSION = loadPluginVersion();
+
+    private ModelFingerprint() {
+    }
+
+    public static String compute(Package currentPackage, boolean isCompact) throws NoSuchAlgorithmException {
+        return compute(currentPackage, isCompact, PLUGIN_VERSION);
+    }
+
+    static String compute(Package currentPackage, boolean isCompact, String pluginVersion)
+            throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        update(messageDigest, Constants.MODEL_VERSION);
+        update(messageDigest, pluginVersion);
+        update(messageDigest, Boolean.toString(isCompact));
+        update(messageDigest, getDescriptor(currentPackage.descriptor()));
+        Project project = currentPackage.project();
+        update(messageDigest, project.sourceRoot().toAbsolutePath().normalize().toString());
+
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            dependencies.add(getDescriptor(dependency.packageInstance().descriptor()));
+        }
+        dependencies.sort(Comparator.naturalOrder());
+        for (String dependency : dependencies) {
+            update(messageDigest, dependency);
+        }
+
+        List<Module> modules = new ArrayList<>();
+        currentPackage.modules().forEach(modules::add);
+        modules.sort(Comparator.comparing(module -> module.moduleName().toString()));
+        for (Module module : modules) {
+            update(messageDigest, module.moduleName().toString());
+            List<Document> documents = new ArrayList<>();
+            for (DocumentId documentId : module.documentIds()) {
+                documents.add(module.document(documentId));
+            }
+            documents.sort(Comparator.comparing(Document::name));
+            for (Document document : documents) {
+                Optional<Path> documentPath = project.documentPath(document.documentId());
+                update(messageDigest, documentPath.isPresent() ?
+                        documentPath.get().toAbsolutePath().normalize().toString() : document.name());
+                update(messageDigest, document.syntaxTree().toSourceCode());
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static String getDescriptor(PackageDescriptor descriptor) {
+        return descriptor.org().value() + "/" + descriptor.name().value() + ":" + descriptor.version().toString();
+    }
+
+    private static String loadPluginVersion() {
+        try (InputStream inputStream = ModelFingerprint.class.getResourceAsStream(PLUGIN_PROPERTIES_NAME)) {
+            if (inputStream == null) {
+                return "";
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            return properties.getProperty(PLUGIN_VERSION_PROPERTY, "");
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Length prefix keeps adjacent values from being ambiguous
+        messageDigest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) ':');
+        messageDigest.update(bytes);
+    }
+}
@@ -24,4 +24,11 @@ package io.ballerina.architecturemodelgenerator.plugin;
 public class PluginConstants {
     public static final String MODEL_DIR_NAME = "component-model";
     public static final String MODEL_JSON_NAME = "component-model.json";
+    public static final String MODEL_FINGERPRINT_NAME = "component-model.fingerprint";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String PLUGIN_PROPERTIES_NAME = "plugin.properties";
+    public static final String PLUGIN_VERSION_PROPERTY = "version";
+
+    // System property to export the component model without pretty printing
+    public static final String COMPACT_MODEL_PROPERTY = "ballerina.componentModel.compact";
 }
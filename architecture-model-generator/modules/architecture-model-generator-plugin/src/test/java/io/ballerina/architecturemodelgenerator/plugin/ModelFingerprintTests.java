@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.plugin;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_DIR_NAME;
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_FINGERPRINT_NAME;
+import static io.ballerina.architecturemodelgenerator.plugin.PluginConstants.MODEL_JSON_NAME;
+
+/**
+ * Test the fingerprint which lets a build skip exporting an unchanged component model.
+ *
+ * @since 2201.8.0
+ */
+public class ModelFingerprintTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina",
+            "fingerprint_project").toAbsolutePath();
+
+    private Path tempDirectory;
+
+    @BeforeMethod
+    public void createTempDirectory() throws IOException {
+        tempDirectory = Files.createTempDirectory("model-fingerprint");
+    }
+
+    @AfterMethod
+    public void deleteTempDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDirectory)) {
+            List<Path> sortedPaths = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : sortedPaths) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "test that the export of an unchanged package is skipped")
+    public void testUnchangedPackage() throws IOException, NoSuchAlgorithmException {
+        String fingerprint = ModelFingerprint.compute(loadProject(PROJECT_PATH).currentPackage(), false);
+        Path outPath = exportModel(fingerprint);
+
+        String reloadedFingerprint = ModelFingerprint.compute(loadProject(PROJECT_PATH).currentPackage(), false);
+        Assert.assertEquals(reloadedFingerprint, fingerprint);
+        Assert.assertTrue(CompilationAnalysisTask.isExportedModelUpToDate(outPath, reloadedFingerprint));
+    }
+
+    @Test(description = "test that the model is exported again when a document is edited")
+    public void testEditedDocument() throws IOException, NoSuchAlgorithmException {
+        Project project = loadProject(PROJECT_PATH);
+        String fingerprint = ModelFingerprint.compute(project.currentPackage(), false);
+        Path outPath = exportModel(fingerprint);
+
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        String content = document.syntaxTree().toSourceCode();
+        Package editedPackage = document.modify().withContent(content.replace("a + b", "b + a")).apply()
+                .module().packageInstance();
+
+        String editedFingerprint = ModelFingerprint.compute(editedPackage, false);
+        Assert.assertNotEquals(editedFingerprint, fingerprint);
+        Assert.assertFalse(CompilationAnalysisTask.isExportedModelUpToDate(outPath, editedFingerprint));
+    }
+
+    @Test(description = "test that the model is exported again when the package is moved")
+    public void testRelocatedPackage() throws IOException, NoSuchAlgorithmException {
+        String fingerprint = ModelFingerprint.compute(loadProject(PROJECT_PATH).currentPackage(), false);
+        Path outPath = exportModel(fingerprint);
+
+        // The model records the locations of its elements, which differ for a copy of the package
+        Path copiedProjectPath = Files.createDirectory(tempDirectory.resolve("fingerprint_project"));
+        try (Stream<Path> paths = Files.list(PROJECT_PATH)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                Files.copy(path, copiedProjectPath.resolve(path.getFileName()));
+            }
+        }
+        String copiedFingerprint = ModelFingerprint.compute(loadProject(copiedProjectPath).currentPackage(), false);
+        Assert.assertNotEquals(copiedFingerprint, fingerprint);
+        Assert.assertFalse(CompilationAnalysisTask.isExportedModelUpToDate(outPath, copiedFingerprint));
+    }
+
+    @Test(description = "test that the model is exported again by another version of the plugin")
+    public void testPluginVersion() throws IOException, NoSuchAlgorithmException {
+        Package currentPackage = loadProject(PROJECT_PATH).currentPackage();
+        String fingerprint = ModelFingerprint.compute(currentPackage, false, "1.2.0");
+        Path outPath = exportModel(fingerprint);
+
+        String upgradedFingerprint = ModelFingerprint.compute(currentPackage, false, "1.2.1");
+        Assert.assertNotEquals(upgradedFingerprint, fingerprint);
+        Assert.assertFalse(CompilationAnalysisTask.isExportedModelUpToDate(outPath, upgradedFingerprint));
+    }
+
+    @Test(description = "test that the model is exported again when the exported model is missing")
+    public void testMissingModel() throws IOException, NoSuchAlgorithmException {
+        String fingerprint = ModelFingerprint.compute(loadProject(PROJECT_PATH).currentPackage(), false);
+        Path outPath = exportModel(fingerprint);
+        Files.delete(outPath.resolve(MODEL_DIR_NAME).resolve(MODEL_JSON_NAME));
+
+        Assert.assertFalse(CompilationAnalysisTask.isExportedModelUpToDate(outPath, fingerprint));
+    }
+
+    private Path exportModel(String fingerprint) throws IOException {
+        Path outPath = tempDirectory.resolve("target");
+        Path exportDirectory = Files.createDirectories(outPath.resolve(MODEL_DIR_NAME));
+        Files.writeString(exportDirectory.resolve(MODEL_JSON_NAME), "{}", StandardCharsets.UTF_8);
+        Files.writeString(exportDirectory.resolve(MODEL_FINGERPRINT_NAME), fingerprint + System.lineSeparator(),
+                StandardCharsets.UTF_8);
+        return outPath;
+    }
+
+    private static Project loadProject(Path projectPath) {
+        return BuildProject.load(projectPath, BuildOptions.builder().setOffline(true).build());
+    }
+}
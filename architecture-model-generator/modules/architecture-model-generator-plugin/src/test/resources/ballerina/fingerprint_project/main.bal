@@ -0,0 +1,8 @@
+public function main() {
+    int total = sum(1, 2);
+    _ = total;
+}
+
+function sum(int a, int b) returns int {
+    return a + b;
+}
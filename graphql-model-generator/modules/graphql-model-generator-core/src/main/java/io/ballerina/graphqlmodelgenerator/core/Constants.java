@@ -29,6 +29,8 @@ public class Constants {
     public static final String EMPTY_SCHEMA_MSG = "Cannot generate complete Schema object for the provided ST node";
     public static final String EMPTY_SEMANTIC_MODEL_MSG =
             "Provided Ballerina file path doesn't contain a valid semantic model";
+    public static final String DOCUMENT_NOT_IN_PROJECT_MSG =
+            "Provided Ballerina file path is not a document of the project %s : %s";
     public static final String UNEXPECTED_ERROR_MSG = "Unexpected error occurred while generating GraphQL model : %s";
     public static final String MODEL_GENERATION_ERROR_MSG = "Issue when generating the GraphQL model from Schema : %s";
 }
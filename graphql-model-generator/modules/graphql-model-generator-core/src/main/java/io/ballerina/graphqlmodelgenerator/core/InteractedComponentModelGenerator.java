@@ -32,6 +32,7 @@ import io.ballerina.graphqlmodelgenerator.core.model.ServiceClassComponent;
 import io.ballerina.graphqlmodelgenerator.core.model.ServiceClassField;
 import io.ballerina.graphqlmodelgenerator.core.model.UnionComponent;
 import io.ballerina.graphqlmodelgenerator.core.utils.ModelGenerationUtils;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
 import io.ballerina.stdlib.graphql.commons.types.ObjectKind;
 import io.ballerina.stdlib.graphql.commons.types.Position;
 import io.ballerina.stdlib.graphql.commons.types.Schema;
@@ -40,8 +41,10 @@ import io.ballerina.stdlib.graphql.commons.types.TypeKind;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static io.ballerina.graphqlmodelgenerator.core.model.DefaultIntrospectionType.isReservedType;
 
@@ -51,8 +54,12 @@ import static io.ballerina.graphqlmodelgenerator.core.model.DefaultIntrospection
  * @since 2201.5.0
  */
 public class InteractedComponentModelGenerator {
+    // Smaller partitions cost more to schedule than to generate
+    private static final int MIN_TYPES_PER_PARTITION = 64;
+
     private final Schema schemaObj;
-    private final SyntaxTree syntaxTree;
+    private final SyntaxTreeProvider syntaxTreeProvider;
+    private final ModelGeneratorExecutor modelGeneratorExecutor;
     private final Map<String, RecordComponent> records;
     private final Map<String, ServiceClassComponent> serviceClasses;
     private final Map<String, EnumComponent> enums;
@@ -61,8 +68,25 @@ public class InteractedComponentModelGenerator {
     private final Map<String, HierarchicalResourceComponent> hierarchicalResources;
 
     public InteractedComponentModelGenerator(Schema schema, SyntaxTree syntaxTree) {
+        this(schema, new SyntaxTreeProvider(syntaxTree), null);
+    }
+
+    /**
+     * Creates a generator which partitions the types of the schema across the given executor. The generated
+     * components are identical to the ones generated sequentially.
+     * <p>
+     * The partitions are run as subtasks of the model generation task, hence they share its priority and its
+     * cancellation, and the calling thread runs the partitions no other thread of the executor has picked.
+     *
+     * @param schema                 schema of the GraphQL service
+     * @param syntaxTreeProvider     provider of the syntax trees of the documents of the schema fields
+     * @param modelGeneratorExecutor executor used to generate the components, or null to generate sequentially
+     */
+    public InteractedComponentModelGenerator(Schema schema, SyntaxTreeProvider syntaxTreeProvider,
+                                             ModelGeneratorExecutor modelGeneratorExecutor) {
         this.schemaObj = schema;
-        this.syntaxTree = syntaxTree;
+        this.syntaxTreeProvider = syntaxTreeProvider;
+        this.modelGeneratorExecutor = modelGeneratorExecutor;
         this.records = new HashMap<>();
         this.serviceClasses = new HashMap<>();
         this.enums = new HashMap<>();
@@ -96,31 +120,66 @@ public class InteractedComponentModelGenerator {
     }
 
     public void generate() {
+        List<Type> types = new ArrayList<>();
         for (var entry : schemaObj.getTypes().entrySet()) {
             if ((entry.getValue().getKind() == TypeKind.OBJECT || entry.getValue().getKind() == TypeKind.INPUT_OBJECT ||
                     entry.getValue().getKind() == TypeKind.ENUM || entry.getValue().getKind() == TypeKind.UNION ||
                     entry.getValue().getKind() == TypeKind.INTERFACE) &&
                     !isReservedType(entry.getKey())) {
-
-                if (entry.getValue().getObjectKind() == ObjectKind.RECORD ||
-                        entry.getValue().getKind() == TypeKind.INPUT_OBJECT) {
-                    this.records.put(entry.getValue().getName(), generateRecordComponent(entry.getValue()));
-                } else if (entry.getValue().getKind() == TypeKind.OBJECT &&
-                        entry.getValue().getObjectKind() == ObjectKind.CLASS) {
-                    this.serviceClasses.put(entry.getValue().getName(),
-                            generateServiceClassComponent(entry.getValue()));
-                } else if (entry.getValue().getKind() == TypeKind.ENUM) {
-                    this.enums.put(entry.getValue().getName(), generateEnumComponent(entry.getValue()));
-                } else if (entry.getValue().getKind() == TypeKind.UNION && !entry.getValue().getName().isBlank()) {
-                    this.unions.put(entry.getValue().getName(), generateUnionComponent(entry.getValue()));
-                } else if (entry.getValue().getKind() == TypeKind.INTERFACE) {
-                    this.interfaces.put(entry.getValue().getName(), generateInterfaceComponent(entry.getValue()));
-                } else if (entry.getValue().getKind() == TypeKind.OBJECT) {
-                    this.hierarchicalResources.put(entry.getValue().getName(),
-                            generateHierarchicalResourceComponent(entry.getValue()));
-                }
+                types.add(entry.getValue());
             }
         }
+
+        if (modelGeneratorExecutor == null || types.size() < MIN_TYPES_PER_PARTITION * 2) {
+            types.forEach(type -> generateComponent(type, this.records, this.serviceClasses, this.enums, this.unions,
+                    this.interfaces, this.hierarchicalResources));
+            return;
+        }
+
+        // Each partition writes into its own maps, which are merged in the order of the schema types so that the
+        // generated model is the same as the one generated sequentially
+        int partitionCount = Math.min(Runtime.getRuntime().availableProcessors(),
+                types.size() / MIN_TYPES_PER_PARTITION);
+        int partitionSize = (types.size() + partitionCount - 1) / partitionCount;
+        List<Supplier<ComponentPartition>> partitionSuppliers = new ArrayList<>();
+        for (int start = 0; start < types.size(); start += partitionSize) {
+            List<Type> partitionTypes = types.subList(start, Math.min(start + partitionSize, types.size()));
+            partitionSuppliers.add(() -> {
+                ComponentPartition partition = new ComponentPartition();
+                partitionTypes.forEach(type -> generateComponent(type, partition.records, partition.serviceClasses,
+                        partition.enums, partition.unions, partition.interfaces, partition.hierarchicalResources));
+                return partition;
+            });
+        }
+
+        for (ComponentPartition partition : modelGeneratorExecutor.invokeAll(partitionSuppliers)) {
+            this.records.putAll(partition.records);
+            this.serviceClasses.putAll(partition.serviceClasses);
+            this.enums.putAll(partition.enums);
+            this.unions.putAll(partition.unions);
+            this.interfaces.putAll(partition.interfaces);
+            this.hierarchicalResources.putAll(partition.hierarchicalResources);
+        }
+    }
+
+    private void generateComponent(Type type, Map<String, RecordComponent> records,
+                                   Map<String, ServiceClassComponent> serviceClasses,
+                                   Map<String, EnumComponent> enums, Map<String, UnionComponent> unions,
+                                   Map<String, InterfaceComponent> interfaces,
+                                   Map<String, HierarchicalResourceComponent> hierarchicalResources) {
+        if (type.getObjectKind() == ObjectKind.RECORD || type.getKind() == TypeKind.INPUT_OBJECT) {
+            records.put(type.getName(), generateRecordComponent(type));
+        } else if (type.getKind() == TypeKind.OBJECT && type.getObjectKind() == ObjectKind.CLASS) {
+            serviceClasses.put(type.getName(), generateServiceClassComponent(type));
+        } else if (type.getKind() == TypeKind.ENUM) {
+            enums.put(type.getName(), generateEnumComponent(type));
+        } else if (type.getKind() == TypeKind.UNION && !type.getName().isBlank()) {
+            unions.put(type.getName(), generateUnionComponent(type));
+        } else if (type.getKind() == TypeKind.INTERFACE) {
+            interfaces.put(type.getName(), generateInterfaceComponent(type));
+        } else if (type.getKind() == TypeKind.OBJECT) {
+            hierarchicalResources.put(type.getName(), generateHierarchicalResourceComponent(type));
+        }
     }
 
     private HierarchicalResourceComponent generateHierarchicalResourceComponent(Type objType) {
@@ -142,7 +201,8 @@ public class InteractedComponentModelGenerator {
                     }
                 }
             });
-            Position position = ModelGenerationUtils.findNodeRange(field.getPosition(), this.syntaxTree);
+            Position position = ModelGenerationUtils.findNodeRange(field.getPosition(),
+                    this.syntaxTreeProvider.getSyntaxTree(field.getPosition()));
             ResourceFunction resourceFunction = new ResourceFunction(field.getName(), false, typeDesc,
                     position, field.getDescription(), field.isDeprecated(), field.getDeprecationReason(), params,
                     interactionList);
@@ -260,4 +320,17 @@ public class InteractedComponentModelGenerator {
         return new UnionComponent(objType.getName(), objType.getPosition(),
                 objType.getDescription(), possibleTypes);
     }
+
+    /**
+     * Holds the components generated from a partition of the schema types until they are merged.
+     */
+    private static class ComponentPartition {
+
+        private final Map<String, RecordComponent> records = new LinkedHashMap<>();
+        private final Map<String, ServiceClassComponent> serviceClasses = new LinkedHashMap<>();
+        private final Map<String, EnumComponent> enums = new LinkedHashMap<>();
+        private final Map<String, UnionComponent> unions = new LinkedHashMap<>();
+        private final Map<String, InterfaceComponent> interfaces = new LinkedHashMap<>();
+        private final Map<String, HierarchicalResourceComponent> hierarchicalResources = new LinkedHashMap<>();
+    }
 }
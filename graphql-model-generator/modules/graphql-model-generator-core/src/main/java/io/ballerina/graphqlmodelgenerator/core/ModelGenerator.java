@@ -29,6 +29,7 @@ import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
 import io.ballerina.graphqlmodelgenerator.core.model.Service;
 import io.ballerina.graphqlmodelgenerator.core.utils.CommonUtil;
 import io.ballerina.graphqlmodelgenerator.core.utils.ModelGenerationUtils;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -54,6 +55,21 @@ import static io.ballerina.stdlib.graphql.compiler.Utils.getSchemaObject;
  */
 public class ModelGenerator {
 
+    private final ModelGeneratorExecutor modelGeneratorExecutor;
+
+    public ModelGenerator() {
+        this(null);
+    }
+
+    /**
+     * Creates a model generator which generates the components of large schemas in parallel on the given executor.
+     *
+     * @param modelGeneratorExecutor executor used to generate the components, or null to generate sequentially
+     */
+    public ModelGenerator(ModelGeneratorExecutor modelGeneratorExecutor) {
+        this.modelGeneratorExecutor = modelGeneratorExecutor;
+    }
+
     public GraphqlModel getGraphqlModel(Project project, LineRange position, SemanticModel semanticModel) throws
             GraphqlModelGenerationException {
         Package packageName = project.currentPackage();
@@ -90,18 +106,36 @@ public class ModelGenerator {
             serviceName = moduleVarDclNode.typedBindingPattern().bindingPattern().toSourceCode();
         }
 
-        return constructGraphqlModel(schemaObject, serviceName, position, syntaxTree);
+        return constructGraphqlModel(schemaObject, serviceName, position,
+                new SyntaxTreeProvider(project, syntaxTree));
     }
 
     public GraphqlModel constructGraphqlModel(Schema schemaObj, String serviceName, LineRange nodeLocation,
                                               SyntaxTree syntaxTree) throws GraphqlModelGenerationException {
+        return constructGraphqlModel(schemaObj, serviceName, nodeLocation, new SyntaxTreeProvider(syntaxTree));
+    }
+
+    /**
+     * Construct the GraphQL model of a service, resolving the positions of the schema fields to the syntax trees
+     * of their own documents.
+     *
+     * @param schemaObj          schema of the service
+     * @param serviceName        name of the service
+     * @param nodeLocation       line range of the service node
+     * @param syntaxTreeProvider provider of the syntax trees of the documents of the schema fields
+     * @return GraphQL model of the service
+     * @throws GraphqlModelGenerationException if the model cannot be generated
+     */
+    public GraphqlModel constructGraphqlModel(Schema schemaObj, String serviceName, LineRange nodeLocation,
+                                              SyntaxTreeProvider syntaxTreeProvider)
+            throws GraphqlModelGenerationException {
         try {
             ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(schemaObj, serviceName,
-                    nodeLocation, syntaxTree);
+                    nodeLocation, syntaxTreeProvider);
             Service graphqlService = serviceModelGenerator.generate();
 
             InteractedComponentModelGenerator componentModelGenerator = new
-                    InteractedComponentModelGenerator(schemaObj, syntaxTree);
+                    InteractedComponentModelGenerator(schemaObj, syntaxTreeProvider, modelGeneratorExecutor);
             componentModelGenerator.generate();
 
             return new GraphqlModel(graphqlService, componentModelGenerator.getRecords(),
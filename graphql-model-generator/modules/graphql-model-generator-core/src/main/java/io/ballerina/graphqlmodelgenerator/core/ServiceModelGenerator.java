@@ -46,15 +46,20 @@ public class ServiceModelGenerator {
     private final List<ResourceFunction> resourceFunctions;
     private final List<RemoteFunction> remoteFunctions;
     private final LineRange servicePosition;
-    private final SyntaxTree syntaxTree;
+    private final SyntaxTreeProvider syntaxTreeProvider;
 
     public ServiceModelGenerator(Schema schema, String serviceName, LineRange servicePosition, SyntaxTree syntaxTree) {
+        this(schema, serviceName, servicePosition, new SyntaxTreeProvider(syntaxTree));
+    }
+
+    public ServiceModelGenerator(Schema schema, String serviceName, LineRange servicePosition,
+                                 SyntaxTreeProvider syntaxTreeProvider) {
         this.schemaObj = schema;
         this.serviceName = serviceName;
         this.resourceFunctions = new ArrayList<>();
         this.remoteFunctions = new ArrayList<>();
         this.servicePosition = servicePosition;
-        this.syntaxTree = syntaxTree;
+        this.syntaxTreeProvider = syntaxTreeProvider;
     }
 
     enum OperationKind {
@@ -93,7 +98,8 @@ public class ServiceModelGenerator {
                         }
                     }
                 });
-                Position position = ModelGenerationUtils.findNodeRange(field.getPosition(), this.syntaxTree);
+                Position position = ModelGenerationUtils.findNodeRange(field.getPosition(),
+                        this.syntaxTreeProvider.getSyntaxTree(field.getPosition()));
                 if (operationKind == OperationKind.QUERY) {
                     ResourceFunction resourceFunction = new ResourceFunction(field.getName(), false, returns,
                             position, field.getDescription(), field.isDeprecated(), field.getDeprecationReason(),
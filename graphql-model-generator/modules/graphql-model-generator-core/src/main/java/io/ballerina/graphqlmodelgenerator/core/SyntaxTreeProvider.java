@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.stdlib.graphql.commons.types.Position;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the syntax tree of the document of a position in the GraphQL schema.
+ * <p>
+ * The fields of a schema may be defined in documents other than the one of the service. Hence, the syntax tree of
+ * each document is loaded on the first position of the document and reused for the rest of the model generation.
+ *
+ * @since 2201.8.0
+ */
+public class SyntaxTreeProvider {
+
+    private final Project project;
+    private final SyntaxTree serviceSyntaxTree;
+    private final Map<String, SyntaxTree> syntaxTrees = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a provider which resolves every position to the syntax tree of the service.
+     *
+     * @param serviceSyntaxTree syntax tree of the document of the service
+     */
+    public SyntaxTreeProvider(SyntaxTree serviceSyntaxTree) {
+        this(null, serviceSyntaxTree);
+    }
+
+    /**
+     * Creates a provider which resolves the positions to the syntax trees of the documents of the given project.
+     *
+     * @param project           project of the service, or null to use the syntax tree of the service for every position
+     * @param serviceSyntaxTree syntax tree of the document of the service
+     */
+    public SyntaxTreeProvider(Project project, SyntaxTree serviceSyntaxTree) {
+        this.project = project;
+        this.serviceSyntaxTree = serviceSyntaxTree;
+    }
+
+    /**
+     * Get the syntax tree of the document of the given position.
+     *
+     * @param position position in the GraphQL schema
+     * @return syntax tree of the document, or the syntax tree of the service if the document cannot be resolved
+     */
+    public SyntaxTree getSyntaxTree(Position position) {
+        if (project == null || project.kind() != ProjectKind.BUILD_PROJECT || position == null ||
+                position.getFilePath() == null) {
+            return serviceSyntaxTree;
+        }
+        return syntaxTrees.computeIfAbsent(position.getFilePath(), this::loadSyntaxTree);
+    }
+
+    private SyntaxTree loadSyntaxTree(String filePath) {
+        try {
+            DocumentId documentId = project.documentId(Path.of(filePath));
+            return project.currentPackage().module(documentId.moduleId()).document(documentId).syntaxTree();
+        } catch (RuntimeException e) {
+            // The position is not within a document of the project
+            return serviceSyntaxTree;
+        }
+    }
+}
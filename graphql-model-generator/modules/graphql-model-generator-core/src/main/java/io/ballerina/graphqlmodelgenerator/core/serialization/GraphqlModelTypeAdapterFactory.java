@@ -0,0 +1,382 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.core.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.graphqlmodelgenerator.core.model.EnumComponent;
+import io.ballerina.graphqlmodelgenerator.core.model.EnumField;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.graphqlmodelgenerator.core.model.HierarchicalResourceComponent;
+import io.ballerina.graphqlmodelgenerator.core.model.Interaction;
+import io.ballerina.graphqlmodelgenerator.core.model.InterfaceComponent;
+import io.ballerina.graphqlmodelgenerator.core.model.Param;
+import io.ballerina.graphqlmodelgenerator.core.model.RecordComponent;
+import io.ballerina.graphqlmodelgenerator.core.model.RecordField;
+import io.ballerina.graphqlmodelgenerator.core.model.RemoteFunction;
+import io.ballerina.graphqlmodelgenerator.core.model.ResourceFunction;
+import io.ballerina.graphqlmodelgenerator.core.model.Service;
+import io.ballerina.graphqlmodelgenerator.core.model.ServiceClassComponent;
+import io.ballerina.graphqlmodelgenerator.core.model.ServiceClassField;
+import io.ballerina.graphqlmodelgenerator.core.model.UnionComponent;
+import io.ballerina.stdlib.graphql.commons.types.LinePosition;
+import io.ballerina.stdlib.graphql.commons.types.Position;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides hand-written type adapters to serialize the GraphQL model without reflection.
+ * <p>
+ * The adapters write the same JSON as the reflective serialization of the model classes, with the fields of a class
+ * in their declaration order. Deserialization is delegated to the reflective adapters.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final Map<Class<?>, ValueWriter<?>> VALUE_WRITERS = new HashMap<>();
+
+    static {
+        VALUE_WRITERS.put(GraphqlModel.class, (ValueWriter<GraphqlModel>) ModelWriter::writeGraphqlModel);
+        VALUE_WRITERS.put(Service.class, (ValueWriter<Service>) ModelWriter::writeService);
+        VALUE_WRITERS.put(ResourceFunction.class, (ValueWriter<ResourceFunction>) ModelWriter::writeResourceFunction);
+        VALUE_WRITERS.put(RemoteFunction.class, (ValueWriter<RemoteFunction>) ModelWriter::writeRemoteFunction);
+        VALUE_WRITERS.put(Param.class, (ValueWriter<Param>) ModelWriter::writeParam);
+        VALUE_WRITERS.put(Interaction.class, (ValueWriter<Interaction>) ModelWriter::writeInteraction);
+        VALUE_WRITERS.put(RecordComponent.class, (ValueWriter<RecordComponent>) ModelWriter::writeRecordComponent);
+        VALUE_WRITERS.put(RecordField.class, (ValueWriter<RecordField>) ModelWriter::writeRecordField);
+        VALUE_WRITERS.put(ServiceClassComponent.class,
+                (ValueWriter<ServiceClassComponent>) ModelWriter::writeServiceClassComponent);
+        VALUE_WRITERS.put(ServiceClassField.class,
+                (ValueWriter<ServiceClassField>) ModelWriter::writeServiceClassField);
+        VALUE_WRITERS.put(EnumComponent.class, (ValueWriter<EnumComponent>) ModelWriter::writeEnumComponent);
+        VALUE_WRITERS.put(EnumField.class, (ValueWriter<EnumField>) ModelWriter::writeEnumField);
+        VALUE_WRITERS.put(UnionComponent.class, (ValueWriter<UnionComponent>) ModelWriter::writeUnionComponent);
+        VALUE_WRITERS.put(InterfaceComponent.class,
+                (ValueWriter<InterfaceComponent>) ModelWriter::writeInterfaceComponent);
+        VALUE_WRITERS.put(HierarchicalResourceComponent.class,
+                (ValueWriter<HierarchicalResourceComponent>) ModelWriter::writeHierarchicalResourceComponent);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        ValueWriter<T> valueWriter = (ValueWriter<T>) VALUE_WRITERS.get(typeToken.getRawType());
+        if (valueWriter == null) {
+            return null;
+        }
+        return new ModelTypeAdapter<>(valueWriter, gson.getDelegateAdapter(this, typeToken));
+    }
+
+    /**
+     * Writes a value of the model to a JSON writer.
+     *
+     * @param <T> type of the value
+     */
+    private interface ValueWriter<T> {
+
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * Type adapter which writes a model class with its hand-written writer.
+     *
+     * @param <T> model class
+     */
+    private static class ModelTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final ValueWriter<T> valueWriter;
+        private final TypeAdapter<T> delegate;
+
+        private ModelTypeAdapter(ValueWriter<T> valueWriter, TypeAdapter<T> delegate) {
+            this.valueWriter = valueWriter;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            valueWriter.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+
+    /**
+     * Writes the elements of the GraphQL model.
+     */
+    private static class ModelWriter {
+
+        private static void writeGraphqlModel(JsonWriter out, GraphqlModel graphqlModel) throws IOException {
+            out.beginObject();
+            out.name("graphqlService");
+            writeNullable(out, graphqlModel.getGraphqlService(), ModelWriter::writeService);
+            out.name("records");
+            writeMap(out, graphqlModel.getRecords(), ModelWriter::writeRecordComponent);
+            out.name("serviceClasses");
+            writeMap(out, graphqlModel.getServiceClasses(), ModelWriter::writeServiceClassComponent);
+            out.name("enums");
+            writeMap(out, graphqlModel.getEnums(), ModelWriter::writeEnumComponent);
+            out.name("unions");
+            writeMap(out, graphqlModel.getUnions(), ModelWriter::writeUnionComponent);
+            out.name("interfaces");
+            writeMap(out, graphqlModel.getInterfaces(), ModelWriter::writeInterfaceComponent);
+            out.name("hierarchicalResources");
+            writeMap(out, graphqlModel.getHierarchicalResources(), ModelWriter::writeHierarchicalResourceComponent);
+            out.endObject();
+        }
+
+        private static void writeService(JsonWriter out, Service service) throws IOException {
+            out.beginObject();
+            out.name("serviceName").value(service.getServiceName());
+            out.name("position");
+            writeNullable(out, service.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(service.getDescription());
+            out.name("resourceFunctions");
+            writeList(out, service.getResourceFunctions(), ModelWriter::writeResourceFunction);
+            out.name("remoteFunctions");
+            writeList(out, service.getRemoteFunctions(), ModelWriter::writeRemoteFunction);
+            out.endObject();
+        }
+
+        private static void writeResourceFunction(JsonWriter out, ResourceFunction resourceFunction)
+                throws IOException {
+            out.beginObject();
+            out.name("identifier").value(resourceFunction.getIdentifier());
+            out.name("subscription").value(resourceFunction.isSubscription());
+            out.name("returns").value(resourceFunction.getReturns());
+            out.name("position");
+            writeNullable(out, resourceFunction.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(resourceFunction.getDescription());
+            out.name("isDeprecated").value(resourceFunction.isDeprecated());
+            out.name("deprecationReason").value(resourceFunction.getDeprecationReason());
+            out.name("parameters");
+            writeList(out, resourceFunction.getParameters(), ModelWriter::writeParam);
+            out.name("interactions");
+            writeList(out, resourceFunction.getInteractions(), ModelWriter::writeInteraction);
+            out.endObject();
+        }
+
+        private static void writeRemoteFunction(JsonWriter out, RemoteFunction remoteFunction) throws IOException {
+            out.beginObject();
+            out.name("identifier").value(remoteFunction.getIdentifier());
+            out.name("returns").value(remoteFunction.getReturns());
+            out.name("position");
+            writeNullable(out, remoteFunction.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(remoteFunction.getDescription());
+            out.name("isDeprecated").value(remoteFunction.isDeprecated());
+            out.name("deprecationReason").value(remoteFunction.getDeprecationReason());
+            out.name("parameters");
+            writeList(out, remoteFunction.getParameters(), ModelWriter::writeParam);
+            out.name("interactions");
+            writeList(out, remoteFunction.getInteractions(), ModelWriter::writeInteraction);
+            out.endObject();
+        }
+
+        private static void writeParam(JsonWriter out, Param param) throws IOException {
+            out.beginObject();
+            out.name("type").value(param.getType());
+            out.name("name").value(param.getName());
+            out.name("description").value(param.getDescription());
+            out.name("defaultValue").value(param.getDefaultValue());
+            out.endObject();
+        }
+
+        private static void writeInteraction(JsonWriter out, Interaction interaction) throws IOException {
+            out.beginObject();
+            out.name("componentName").value(interaction.getComponentName());
+            out.name("path").value(interaction.getPath());
+            out.endObject();
+        }
+
+        private static void writeRecordComponent(JsonWriter out, RecordComponent recordComponent)
+                throws IOException {
+            out.beginObject();
+            out.name("name").value(recordComponent.getName());
+            out.name("position");
+            writeNullable(out, recordComponent.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(recordComponent.getDescription());
+            out.name("recordFields");
+            writeList(out, recordComponent.getRecordFields(), ModelWriter::writeRecordField);
+            out.name("isInputObject").value(recordComponent.isInputObject());
+            out.endObject();
+        }
+
+        private static void writeRecordField(JsonWriter out, RecordField recordField) throws IOException {
+            out.beginObject();
+            out.name("name").value(recordField.getName());
+            out.name("type").value(recordField.getType());
+            out.name("defaultValue").value(recordField.getDefaultValue());
+            out.name("description").value(recordField.getDescription());
+            out.name("isDeprecated").value(recordField.isDeprecated());
+            out.name("deprecationReason").value(recordField.getDeprecationReason());
+            out.name("interactions");
+            writeList(out, recordField.getInteractions(), ModelWriter::writeInteraction);
+            out.endObject();
+        }
+
+        private static void writeServiceClassComponent(JsonWriter out, ServiceClassComponent serviceClassComponent)
+                throws IOException {
+            out.beginObject();
+            out.name("serviceName").value(serviceClassComponent.getServiceName());
+            out.name("position");
+            writeNullable(out, serviceClassComponent.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(serviceClassComponent.getDescription());
+            out.name("functions");
+            writeList(out, serviceClassComponent.getFunctions(), ModelWriter::writeServiceClassField);
+            out.endObject();
+        }
+
+        private static void writeServiceClassField(JsonWriter out, ServiceClassField serviceClassField)
+                throws IOException {
+            out.beginObject();
+            out.name("identifier").value(serviceClassField.getIdentifier());
+            out.name("returnType").value(serviceClassField.getReturnType());
+            out.name("description").value(serviceClassField.getDescription());
+            out.name("isDeprecated").value(serviceClassField.isDeprecated());
+            out.name("deprecationReason").value(serviceClassField.getDeprecationReason());
+            out.name("parameters");
+            writeList(out, serviceClassField.getParameters(), ModelWriter::writeParam);
+            out.name("interactions");
+            writeList(out, serviceClassField.getInteractions(), ModelWriter::writeInteraction);
+            out.endObject();
+        }
+
+        private static void writeEnumComponent(JsonWriter out, EnumComponent enumComponent) throws IOException {
+            out.beginObject();
+            out.name("name").value(enumComponent.getName());
+            out.name("position");
+            writeNullable(out, enumComponent.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(enumComponent.getDescription());
+            out.name("enumFields");
+            writeList(out, enumComponent.getEnumFields(), ModelWriter::writeEnumField);
+            out.endObject();
+        }
+
+        private static void writeEnumField(JsonWriter out, EnumField enumField) throws IOException {
+            out.beginObject();
+            out.name("name").value(enumField.getName());
+            out.name("description").value(enumField.getDescription());
+            out.name("isDeprecated").value(enumField.isDeprecated());
+            out.name("deprecationReason").value(enumField.getDeprecationReason());
+            out.endObject();
+        }
+
+        private static void writeUnionComponent(JsonWriter out, UnionComponent unionComponent) throws IOException {
+            out.beginObject();
+            out.name("name").value(unionComponent.getName());
+            out.name("position");
+            writeNullable(out, unionComponent.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(unionComponent.getDescription());
+            out.name("possibleTypes");
+            writeList(out, unionComponent.getPossibleTypes(), ModelWriter::writeInteraction);
+            out.endObject();
+        }
+
+        private static void writeInterfaceComponent(JsonWriter out, InterfaceComponent interfaceComponent)
+                throws IOException {
+            out.beginObject();
+            out.name("name").value(interfaceComponent.getName());
+            out.name("position");
+            writeNullable(out, interfaceComponent.getPosition(), ModelWriter::writePosition);
+            out.name("description").value(interfaceComponent.getDescription());
+            out.name("possibleTypes");
+            writeList(out, interfaceComponent.getPossibleTypes(), ModelWriter::writeInteraction);
+            out.name("resourceFunctions");
+            writeList(out, interfaceComponent.getResourceFunctions(), ModelWriter::writeResourceFunction);
+            out.endObject();
+        }
+
+        private static void writeHierarchicalResourceComponent(JsonWriter out,
+                                                               HierarchicalResourceComponent resourceComponent)
+                throws IOException {
+            out.beginObject();
+            out.name("name").value(resourceComponent.getName());
+            out.name("hierarchicalResources");
+            writeList(out, resourceComponent.getHierarchicalResources(), ModelWriter::writeResourceFunction);
+            out.endObject();
+        }
+
+        private static void writePosition(JsonWriter out, Position position) throws IOException {
+            out.beginObject();
+            out.name("filePath").value(position.getFilePath());
+            out.name("startLine");
+            writeNullable(out, position.getStartLine(), ModelWriter::writeLinePosition);
+            out.name("endLine");
+            writeNullable(out, position.getEndLine(), ModelWriter::writeLinePosition);
+            out.endObject();
+        }
+
+        private static void writeLinePosition(JsonWriter out, LinePosition linePosition) throws IOException {
+            out.beginObject();
+            out.name("line").value(linePosition.getLine());
+            out.name("offset").value(linePosition.getOffset());
+            out.endObject();
+        }
+
+        private static <T> void writeNullable(JsonWriter out, T value, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            valueWriter.write(out, value);
+        }
+
+        private static <T> void writeList(JsonWriter out, List<T> values, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (values == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (T value : values) {
+                writeNullable(out, value, valueWriter);
+            }
+            out.endArray();
+        }
+
+        private static <T> void writeMap(JsonWriter out, Map<String, T> values, ValueWriter<T> valueWriter)
+                throws IOException {
+            if (values == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                out.name(String.valueOf(entry.getKey()));
+                writeNullable(out, entry.getValue(), valueWriter);
+            }
+            out.endObject();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.core.utils;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.stdlib.graphql.commons.types.Position;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Interval index of the function and method definitions of a syntax tree.
+ * <p>
+ * The resource and remote functions of a GraphQL schema are resolved with a binary search over the definitions
+ * sorted by their start offset, instead of descending the syntax tree from the root node for every field. The index
+ * is built once per syntax tree and shared by all the model generations of the tree.
+ *
+ * @since 2201.8.0
+ */
+public class FunctionDefinitionIndex {
+
+    // The index must not hold a strong reference to the syntax tree, as it is the key of this map
+    private static final Map<SyntaxTree, FunctionDefinitionIndex> FUNCTION_DEFINITION_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final TextDocument textDocument;
+    private final LineRange[] lineRanges;
+    private final int[] startOffsets;
+    private final int[] endOffsets;
+
+    private FunctionDefinitionIndex(SyntaxTree syntaxTree) {
+        FunctionDefinitionVisitor functionDefinitionVisitor = new FunctionDefinitionVisitor();
+        syntaxTree.rootNode().accept(functionDefinitionVisitor);
+        List<Node> nodes = functionDefinitionVisitor.definitionNodes;
+        nodes.sort(Comparator.comparingInt(node -> node.textRangeWithMinutiae().startOffset()));
+
+        // Only the ranges are retained, as the nodes would retain the syntax tree through their root node
+        this.textDocument = syntaxTree.textDocument();
+        this.lineRanges = new LineRange[nodes.size()];
+        this.startOffsets = new int[nodes.size()];
+        this.endOffsets = new int[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            TextRange textRange = nodes.get(i).textRangeWithMinutiae();
+            lineRanges[i] = nodes.get(i).lineRange();
+            startOffsets[i] = textRange.startOffset();
+            endOffsets[i] = textRange.endOffset();
+        }
+    }
+
+    public static FunctionDefinitionIndex getInstance(SyntaxTree syntaxTree) {
+        return FUNCTION_DEFINITION_INDEXES.computeIfAbsent(syntaxTree, FunctionDefinitionIndex::new);
+    }
+
+    /**
+     * Find the innermost function or method definition which encloses the given position.
+     *
+     * @param position position of a field of the GraphQL schema
+     * @return line range of the enclosing definition, or null if the position is not within a definition
+     */
+    public LineRange findEnclosingDefinition(Position position) {
+        int start = textDocument.textPositionFrom(LinePosition.from(position.getStartLine().getLine(),
+                position.getStartLine().getOffset()));
+        int end = textDocument.textPositionFrom(LinePosition.from(position.getEndLine().getLine(),
+                position.getEndLine().getOffset()));
+
+        // Find the last definition which starts before the range
+        int low = 0;
+        int high = startOffsets.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startOffsets[mid] <= start) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // Definitions which start later are nested within the earlier ones, hence the first one which encloses the
+        // range is the innermost
+        for (int i = candidate; i >= 0; i--) {
+            if (endOffsets[i] >= end) {
+                return lineRanges[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Visitor which collects the function and method definitions of a syntax tree, including the nested ones.
+     */
+    private static class FunctionDefinitionVisitor extends NodeVisitor {
+
+        private final List<Node> definitionNodes = new ArrayList<>();
+
+        @Override
+        public void visit(FunctionDefinitionNode functionDefinitionNode) {
+            definitionNodes.add(functionDefinitionNode);
+            functionDefinitionNode.functionBody().accept(this);
+        }
+
+        @Override
+        public void visit(MethodDeclarationNode methodDeclarationNode) {
+            definitionNodes.add(methodDeclarationNode);
+        }
+    }
+}
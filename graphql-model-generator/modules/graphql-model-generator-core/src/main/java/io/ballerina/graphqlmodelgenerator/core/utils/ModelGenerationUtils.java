@@ -180,18 +180,22 @@ public class ModelGenerationUtils {
     /**
      * Get the range of the node for the given position.
      * This is used to find the node range for the resource and remote functions in graphQL service.
+     * The enclosing function is resolved from the {@link FunctionDefinitionIndex} of the syntax tree, and the syntax
+     * tree is searched from the root node only if the position is not within a function.
      */
     public static Position findNodeRange(Position position, SyntaxTree syntaxTree) {
         if (position == null) {
             return null;
         }
-        LineRange lineRange = CommonUtil.toLineRange(position);
-        Range range = CommonUtil.toRange(lineRange);
-        Node methodNode = CommonUtil.findSTNode(range, syntaxTree);
+        LineRange methodRange = FunctionDefinitionIndex.getInstance(syntaxTree).findEnclosingDefinition(position);
+        if (methodRange == null) {
+            LineRange lineRange = CommonUtil.toLineRange(position);
+            Range range = CommonUtil.toRange(lineRange);
+            methodRange = CommonUtil.findSTNode(range, syntaxTree).lineRange();
+        }
         return new Position(position.getFilePath(),
-                new LinePosition(methodNode.lineRange().startLine().line(),
-                        methodNode.lineRange().startLine().offset()),
-                new LinePosition(methodNode.lineRange().endLine().line(), methodNode.lineRange().endLine().offset()));
+                new LinePosition(methodRange.startLine().line(), methodRange.startLine().offset()),
+                new LinePosition(methodRange.endLine().line(), methodRange.endLine().offset()));
     }
 
     /**
@@ -17,14 +17,17 @@
  */
 
 module io.ballerina.graphql.model.generator {
+    requires com.google.gson;
     requires io.ballerina.lang;
     requires io.ballerina.tools.api;
     requires io.ballerina.stdlib.graphql.commons;
     requires org.eclipse.lsp4j;
     requires io.ballerina.parser;
     requires io.ballerina.stdlib.graphql.compiler;
+    requires io.ballerina.modelgenerator.commons;
 
     exports io.ballerina.graphqlmodelgenerator.core;
     exports io.ballerina.graphqlmodelgenerator.core.exception;
     exports io.ballerina.graphqlmodelgenerator.core.model;
+    exports io.ballerina.graphqlmodelgenerator.core.serialization;
 }
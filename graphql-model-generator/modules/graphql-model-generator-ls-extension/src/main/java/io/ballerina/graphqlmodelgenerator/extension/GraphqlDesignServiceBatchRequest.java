@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the request for the GraphQL design models of multiple services.
+ * <p>
+ * The request either lists the services, or gives the path of a project to generate the models of all the GraphQL
+ * services declared in the project. The services are expected to belong to the same project.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlDesignServiceBatchRequest {
+    private final String projectPath;
+    private final List<GraphqlDesignServiceRequest> services;
+
+    public GraphqlDesignServiceBatchRequest(String projectPath, List<GraphqlDesignServiceRequest> services) {
+        this.projectPath = projectPath;
+        this.services = services;
+    }
+
+    public String getProjectPath() {
+        return projectPath;
+    }
+
+    public List<GraphqlDesignServiceRequest> getServices() {
+        return services == null ? new ArrayList<>() : services;
+    }
+}
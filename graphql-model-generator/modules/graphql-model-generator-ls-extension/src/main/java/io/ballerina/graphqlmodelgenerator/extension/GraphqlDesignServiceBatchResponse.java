@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the response for the GraphQL design models of multiple services.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlDesignServiceBatchResponse {
+    private final List<GraphqlServiceDesignModel> graphqlDesignModels = new ArrayList<>();
+    private String errorMsg;
+
+    public List<GraphqlServiceDesignModel> getGraphqlDesignModels() {
+        return graphqlDesignModels;
+    }
+
+    public void addGraphqlDesignModel(GraphqlDesignServiceRequest service, GraphqlDesignServiceResponse response) {
+        this.graphqlDesignModels.add(new GraphqlServiceDesignModel(service, response));
+    }
+
+    public String getErrorMsg() {
+        return errorMsg;
+    }
+
+    public void setErrorMsg(String errorMsg) {
+        this.errorMsg = errorMsg;
+    }
+
+    /**
+     * Represents the design model of a single service of the batch.
+     */
+    public static class GraphqlServiceDesignModel {
+        private final GraphqlDesignServiceRequest service;
+        private final GraphqlDesignServiceResponse response;
+
+        public GraphqlServiceDesignModel(GraphqlDesignServiceRequest service, GraphqlDesignServiceResponse response) {
+            this.service = service;
+            this.response = response;
+        }
+
+        public GraphqlDesignServiceRequest getService() {
+            return service;
+        }
+
+        public GraphqlDesignServiceResponse getResponse() {
+            return response;
+        }
+    }
+}
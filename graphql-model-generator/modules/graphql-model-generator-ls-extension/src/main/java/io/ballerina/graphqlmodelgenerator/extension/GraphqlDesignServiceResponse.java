@@ -18,7 +18,9 @@
 
 package io.ballerina.graphqlmodelgenerator.extension;
 
-import com.google.gson.JsonElement;
+import com.google.gson.annotations.JsonAdapter;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.graphqlmodelgenerator.core.serialization.GraphqlModelJsonAdapter;
 
 /**
  * Represents the response for GraphQL design view.
@@ -26,7 +28,9 @@ import com.google.gson.JsonElement;
  * @since 2201.5.0
  */
 public class GraphqlDesignServiceResponse {
-    private JsonElement graphqlDesignModel;
+    // The model is written straight to the response stream, without building a JSON tree of it beforehand
+    @JsonAdapter(GraphqlModelJsonAdapter.class)
+    private GraphqlModel graphqlDesignModel;
     private boolean isIncompleteModel;
     private String errorMsg;
 
@@ -46,11 +50,11 @@ public class GraphqlDesignServiceResponse {
         this.errorMsg = errorMsg;
     }
 
-    public JsonElement getGraphqlDesignModel() {
+    public GraphqlModel getGraphqlDesignModel() {
         return graphqlDesignModel;
     }
 
-    public void setGraphqlDesignModel(JsonElement graphqlDesignModel) {
+    public void setGraphqlDesignModel(GraphqlModel graphqlDesignModel) {
         this.graphqlDesignModel = graphqlDesignModel;
     }
 }
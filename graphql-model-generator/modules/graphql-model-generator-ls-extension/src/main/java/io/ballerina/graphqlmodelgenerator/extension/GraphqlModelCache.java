@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ResolvedPackageDependency;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the GraphQL models of the recently requested GraphQL services.
+ * <p>
+ * A model is keyed by the project, the document and the line range of the service node. It is reused as long as the
+ * package of the project has not changed since the model was generated. The package snapshot is compared first, as
+ * the workspace replaces it on every change. Only when the snapshot differs, a SHA-256 digest of the package is
+ * compared, so that reloading an unchanged project does not regenerate the model. The digest covers the manifest of
+ * the package, its resolved dependencies and the content of its documents, as the schema of a service depends on the
+ * versions of the GraphQL module and of the other dependencies as much as on the sources. The digest of a package
+ * snapshot is computed outside the lock of the cache, and only once for the lookup and the store of its models. The
+ * least recently used models are evicted once the cache is full.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlModelCache {
+
+    private static final int MAX_CACHED_MODELS = 32;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<ModelKey, CachedModel> cachedModels = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ModelKey, CachedModel> eldest) {
+            return size() > MAX_CACHED_MODELS;
+        }
+    };
+
+    // Digests of the recently used package snapshots, which are not retained by the cache
+    private final Map<Package, byte[]> packageDigests = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Get the cached model of the service at the given line range, if the package has not changed since the model
+     * was generated.
+     *
+     * @param project      project of the service
+     * @param modelPackage package snapshot the model is requested for
+     * @param lineRange    line range of the service node
+     * @return cached model, or null if there is no valid model for the service
+     */
+    public GraphqlModel get(Project project, Package modelPackage, LineRange lineRange) {
+        ModelKey modelKey = new ModelKey(project, lineRange);
+        CachedModel cachedModel;
+        synchronized (this) {
+            cachedModel = cachedModels.get(modelKey);
+        }
+        if (cachedModel == null) {
+            return null;
+        }
+        if (cachedModel.packageSnapshot.get() == modelPackage) {
+            return cachedModel.graphqlModel;
+        }
+
+        // The package is digested without holding the lock, as it reads every document of the package
+        byte[] packageDigest = getPackageDigest(modelPackage);
+        synchronized (this) {
+            // The entry is left as it is if it was replaced while the package was digested
+            if (!Arrays.equals(packageDigest, cachedModel.packageDigest)) {
+                cachedModels.remove(modelKey, cachedModel);
+                return null;
+            }
+            cachedModels.replace(modelKey, cachedModel,
+                    new CachedModel(modelPackage, packageDigest, cachedModel.graphqlModel));
+        }
+        return cachedModel.graphqlModel;
+    }
+
+    /**
+     * Cache the model of the service at the given line range.
+     * <p>
+     * The model is cached with the package snapshot its semantic model was taken from, rather than the current package
+     * of the project, which may have been replaced while the model was generated.
+     *
+     * @param project      project of the service
+     * @param modelPackage package snapshot the model was generated from
+     * @param lineRange    line range of the service node
+     * @param graphqlModel model of the service
+     */
+    public void put(Project project, Package modelPackage, LineRange lineRange, GraphqlModel graphqlModel) {
+        CachedModel cachedModel = new CachedModel(modelPackage, getPackageDigest(modelPackage), graphqlModel);
+        synchronized (this) {
+            cachedModels.put(new ModelKey(project, lineRange), cachedModel);
+        }
+    }
+
+    /**
+     * Remove the cached models of the given project.
+     *
+     * @param sourceRoot source root of the project
+     */
+    public synchronized void invalidate(Path sourceRoot) {
+        Path projectRoot = sourceRoot.toAbsolutePath();
+        cachedModels.keySet().removeIf(modelKey -> modelKey.sourceRoot.equals(projectRoot));
+    }
+
+    private byte[] getPackageDigest(Package modelPackage) {
+        // A snapshot digested by a lookup is not digested again when its model is stored
+        byte[] packageDigest = packageDigests.get(modelPackage);
+        if (packageDigest == null) {
+            packageDigest = digestPackage(modelPackage);
+            packageDigests.put(modelPackage, packageDigest);
+        }
+        return packageDigest;
+    }
+
+    private static byte[] digestPackage(Package currentPackage) {
+        MessageDigest messageDigest = getMessageDigest();
+        Optional<BallerinaToml> ballerinaToml = currentPackage.ballerinaToml();
+        update(messageDigest, ballerinaToml.isPresent() ?
+                String.valueOf(ballerinaToml.get().tomlDocument().textDocument().toCharArray()) : "");
+
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            PackageDescriptor descriptor = dependency.packageInstance().descriptor();
+            dependencies.add(descriptor.org().value() + "/" + descriptor.name().value() + ":" +
+                    descriptor.version().toString());
+        }
+        dependencies.sort(Comparator.naturalOrder());
+        update(messageDigest, String.join(",", dependencies));
+
+        // The schema of a service may refer to the types of any module of the package
+        for (Module module : currentPackage.modules()) {
+            update(messageDigest, module.moduleName().toString());
+            for (DocumentId documentId : module.documentIds()) {
+                update(messageDigest, module.document(documentId).name());
+                update(messageDigest, module.document(documentId).syntaxTree().toSourceCode());
+            }
+        }
+        return messageDigest.digest();
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        // Values are prefixed with their length, so that the boundaries between the values are part of the digest
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        messageDigest.update(bytes);
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Identifies the service node of a GraphQL model.
+     */
+    private static class ModelKey {
+
+        private final Path sourceRoot;
+        private final String fileName;
+        private final String lineRange;
+
+        private ModelKey(Project project, LineRange lineRange) {
+            this.sourceRoot = project.sourceRoot().toAbsolutePath();
+            this.fileName = lineRange.fileName();
+            this.lineRange = lineRange.startLine() + "-" + lineRange.endLine();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ModelKey)) {
+                return false;
+            }
+            ModelKey modelKey = (ModelKey) o;
+            return sourceRoot.equals(modelKey.sourceRoot) && fileName.equals(modelKey.fileName) &&
+                    lineRange.equals(modelKey.lineRange);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceRoot, fileName, lineRange);
+        }
+    }
+
+    /**
+     * Cached model of a service, with the package it was generated from.
+     */
+    private static class CachedModel {
+
+        // The package is not retained by the cache, as it holds the compilation of the whole package
+        private final WeakReference<Package> packageSnapshot;
+        private final byte[] packageDigest;
+        private final GraphqlModel graphqlModel;
+
+        private CachedModel(Package currentPackage, byte[] packageDigest, GraphqlModel graphqlModel) {
+            this.packageSnapshot = new WeakReference<>(currentPackage);
+            this.packageDigest = packageDigest;
+            this.graphqlModel = graphqlModel;
+        }
+    }
+}
@@ -18,14 +18,28 @@
 
 package io.ballerina.graphqlmodelgenerator.extension;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
+import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
 import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
 import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -36,9 +50,16 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import static io.ballerina.graphqlmodelgenerator.core.Constants.DOCUMENT_NOT_IN_PROJECT_MSG;
 import static io.ballerina.graphqlmodelgenerator.core.Constants.EMPTY_SEMANTIC_MODEL_MSG;
 import static io.ballerina.graphqlmodelgenerator.core.Constants.UNEXPECTED_ERROR_MSG;
 
@@ -51,6 +72,13 @@ import static io.ballerina.graphqlmodelgenerator.core.Constants.UNEXPECTED_ERROR
 @JsonSegment("graphqlDesignService")
 public class GraphqlModelGeneratorService implements ExtendedLanguageServerService {
 
+    private static final String BALLERINA_ORG = "ballerina";
+    private static final String GRAPHQL_MODULE = "graphql";
+    private static final String GET_GRAPHQL_MODEL = "getGraphqlModel:";
+    private static final String GET_GRAPHQL_MODELS = "getGraphqlModels:";
+
+    private final GraphqlModelCache graphqlModelCache = new GraphqlModelCache();
+    private final ModelGeneratorExecutor modelGeneratorExecutor = ModelGeneratorExecutor.getInstance();
     private WorkspaceManager workspaceManager;
 
     @Override
@@ -66,37 +94,205 @@ public class GraphqlModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<GraphqlDesignServiceResponse> getGraphqlModel(GraphqlDesignServiceRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            GraphqlDesignServiceResponse response = new GraphqlDesignServiceResponse();
+        // The design view shows one service of a document at a time, hence a request supersedes the earlier requests
+        // for the document, and only shares their result if it is for the same service
+        String key = GET_GRAPHQL_MODEL + request.getFilePath();
+        String service = request.getLineRange().toString();
+        return modelGeneratorExecutor.submit(key, service, ModelGeneratorExecutor.Priority.NORMAL, () -> {
             try {
                 Path filePath = Path.of(request.getFilePath());
                 Project project = getCurrentProject(filePath);
-                if (this.workspaceManager.semanticModel(filePath).isEmpty()) {
+                // The semantic model is taken from the same package snapshot as the model is cached with
+                Package modelPackage = project.currentPackage();
+                Optional<SemanticModel> semanticModel = getSemanticModel(project, modelPackage, filePath);
+                if (semanticModel.isEmpty()) {
                     throw new GraphqlModelGenerationException(EMPTY_SEMANTIC_MODEL_MSG);
                 }
-                SemanticModel semanticModel = this.workspaceManager.semanticModel(filePath).get();
-
-                ModelGenerator modelGenerator = new ModelGenerator();
-                GraphqlModel generatedModel = modelGenerator.getGraphqlModel(project, request.getLineRange(),
-                        semanticModel);
-                Gson gson = new GsonBuilder().serializeNulls().create();
-                JsonElement graphqlModelJson = gson.toJsonTree(generatedModel);
-                response.setGraphqlDesignModel(graphqlModelJson);
+                return generateGraphqlModel(project, modelPackage, semanticModel.get(), request.getLineRange());
             } catch (WorkspaceDocumentException | EventSyncException | GraphqlModelGenerationException e) {
-                response.setIncompleteModel(true);
+                return getErrorResponse(e.getMessage());
+            } catch (Exception e) {
+                return getErrorResponse(String.format(UNEXPECTED_ERROR_MSG, e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Generate the GraphQL models of multiple services of a project in a single request.
+     * <p>
+     * The project and the semantic models of its modules are resolved once for all the services, and the models of
+     * the services are generated in parallel. If the request does not list any service, the models of all the
+     * GraphQL services declared in the project are generated.
+     *
+     * @param request services or project to generate the models of
+     * @return models of the services, in the order of the requested services
+     */
+    @JsonRequest
+    public CompletableFuture<GraphqlDesignServiceBatchResponse> getGraphqlModels(
+            GraphqlDesignServiceBatchRequest request) {
+
+        // Only the requests for all the services of a project are coalesced, as they are identified by the project
+        String key = request.getProjectPath() != null && request.getServices().isEmpty() ?
+                GET_GRAPHQL_MODELS + request.getProjectPath() : null;
+        return modelGeneratorExecutor.submit(key, ModelGeneratorExecutor.Priority.LOW, () -> {
+            GraphqlDesignServiceBatchResponse response = new GraphqlDesignServiceBatchResponse();
+            List<GraphqlDesignServiceRequest> services = request.getServices();
+            if (request.getProjectPath() == null && services.isEmpty()) {
+                return response;
+            }
+            try {
+                Project project = getCurrentProject(request.getProjectPath() != null ?
+                        Path.of(request.getProjectPath()) : Path.of(services.get(0).getFilePath()));
+                // Every service of the batch is generated from, and cached with, the same package snapshot
+                Package modelPackage = project.currentPackage();
+                PackageCompilation packageCompilation = modelPackage.getCompilation();
+                if (services.isEmpty()) {
+                    services = getGraphqlServices(project, modelPackage, packageCompilation);
+                }
+
+                Map<ModuleId, SemanticModel> semanticModels = new HashMap<>();
+                List<Supplier<GraphqlDesignServiceResponse>> serviceModels = new ArrayList<>();
+                for (GraphqlDesignServiceRequest service : services) {
+                    DocumentId documentId;
+                    try {
+                        documentId = project.documentId(Path.of(service.getFilePath()));
+                    } catch (ProjectException e) {
+                        // The services of a batch are generated against the project of the request only
+                        String errorMsg = String.format(DOCUMENT_NOT_IN_PROJECT_MSG, project.sourceRoot(),
+                                service.getFilePath());
+                        serviceModels.add(() -> getErrorResponse(errorMsg));
+                        continue;
+                    }
+                    SemanticModel semanticModel = semanticModels.computeIfAbsent(documentId.moduleId(),
+                            packageCompilation::getSemanticModel);
+                    serviceModels.add(() -> generateGraphqlModel(project, modelPackage, semanticModel,
+                            service.getLineRange()));
+                }
+                List<GraphqlDesignServiceResponse> generatedModels = modelGeneratorExecutor.invokeAll(serviceModels);
+                for (int i = 0; i < services.size(); i++) {
+                    response.addGraphqlDesignModel(services.get(i), generatedModels.get(i));
+                }
+            } catch (WorkspaceDocumentException | EventSyncException e) {
                 response.setErrorMsg(e.getMessage());
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
-                response.setIncompleteModel(true);
                 response.setErrorMsg(String.format(UNEXPECTED_ERROR_MSG, e.getMessage()));
             }
             return response;
         });
     }
 
+    private GraphqlDesignServiceResponse generateGraphqlModel(Project project, Package modelPackage,
+                                                              SemanticModel semanticModel, LineRange lineRange) {
+        try {
+            GraphqlModel generatedModel = graphqlModelCache.get(project, modelPackage, lineRange);
+            if (generatedModel == null) {
+                // Components of large schemas are generated in parallel, as subtasks of the request on the executor
+                ModelGenerator modelGenerator = new ModelGenerator(modelGeneratorExecutor);
+                generatedModel = modelGenerator.getGraphqlModel(project, lineRange, semanticModel);
+                graphqlModelCache.put(project, modelPackage, lineRange, generatedModel);
+            }
+            GraphqlDesignServiceResponse response = new GraphqlDesignServiceResponse();
+            response.setGraphqlDesignModel(generatedModel);
+            return response;
+        } catch (GraphqlModelGenerationException e) {
+            return getErrorResponse(e.getMessage());
+        } catch (Exception e) {
+            return getErrorResponse(String.format(UNEXPECTED_ERROR_MSG, e.getMessage()));
+        }
+    }
+
+    private GraphqlDesignServiceResponse getErrorResponse(String errorMsg) {
+        GraphqlDesignServiceResponse response = new GraphqlDesignServiceResponse();
+        response.setIncompleteModel(true);
+        response.setErrorMsg(errorMsg);
+        return response;
+    }
+
+    private Optional<SemanticModel> getSemanticModel(Project project, Package modelPackage, Path filePath) {
+        DocumentId documentId;
+        try {
+            documentId = project.documentId(filePath);
+        } catch (ProjectException e) {
+            return Optional.empty();
+        }
+        if (!modelPackage.moduleIds().contains(documentId.moduleId())) {
+            return Optional.empty();
+        }
+        return Optional.of(modelPackage.getCompilation().getSemanticModel(documentId.moduleId()));
+    }
+
+    private List<GraphqlDesignServiceRequest> getGraphqlServices(Project project, Package modelPackage,
+                                                                 PackageCompilation packageCompilation) {
+        List<GraphqlDesignServiceRequest> services = new ArrayList<>();
+        for (Module module : modelPackage.modules()) {
+            SemanticModel semanticModel = packageCompilation.getSemanticModel(module.moduleId());
+            for (DocumentId documentId : module.documentIds()) {
+                Optional<Path> documentPath = project.documentPath(documentId);
+                if (documentPath.isEmpty()) {
+                    continue;
+                }
+                ModulePartNode modulePartNode = module.document(documentId).syntaxTree().rootNode();
+                for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                    boolean graphqlService;
+                    if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                        graphqlService = isGraphqlService((ServiceDeclarationNode) member, semanticModel);
+                    } else if (member.kind() == SyntaxKind.MODULE_VAR_DECL) {
+                        graphqlService = isGraphqlService((ModuleVariableDeclarationNode) member, semanticModel);
+                    } else {
+                        graphqlService = false;
+                    }
+                    if (graphqlService) {
+                        services.add(new GraphqlDesignServiceRequest(documentPath.get().toString(),
+                                member.lineRange().startLine(), member.lineRange().endLine()));
+                    }
+                }
+            }
+        }
+        return services;
+    }
+
+    private boolean isGraphqlService(ServiceDeclarationNode serviceDeclarationNode, SemanticModel semanticModel) {
+        for (ExpressionNode expressionNode : serviceDeclarationNode.expressions()) {
+            Optional<TypeSymbol> listenerType = semanticModel.typeOf(expressionNode);
+            if (listenerType.isPresent() && isGraphqlModule(listenerType.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a module variable holds a GraphQL service object, such as
+     * {@code graphql:Service greetingService = service object { ... };}, which is attached to a listener at runtime.
+     */
+    private boolean isGraphqlService(ModuleVariableDeclarationNode moduleVariableDeclarationNode,
+                                     SemanticModel semanticModel) {
+        Optional<ExpressionNode> initializer = moduleVariableDeclarationNode.initializer();
+        if (initializer.isEmpty() || initializer.get().kind() != SyntaxKind.OBJECT_CONSTRUCTOR) {
+            return false;
+        }
+        Optional<Symbol> typeSymbol =
+                semanticModel.symbol(moduleVariableDeclarationNode.typedBindingPattern().typeDescriptor());
+        return typeSymbol.isPresent() && isGraphqlModule(typeSymbol.get());
+    }
+
+    private boolean isGraphqlModule(Symbol symbol) {
+        if (symbol.getModule().isEmpty()) {
+            return false;
+        }
+        ModuleID moduleID = symbol.getModule().get().id();
+        return moduleID.orgName().equals(BALLERINA_ORG) && moduleID.moduleName().equals(GRAPHQL_MODULE);
+    }
+
     private Project getCurrentProject(Path path) throws WorkspaceDocumentException, EventSyncException {
         Optional<Project> project = workspaceManager.project(path);
         if (project.isEmpty()) {
-            return workspaceManager.loadProject(path);
+            Project loadedProject = workspaceManager.loadProject(path);
+            // Models of a project which is no longer open in the workspace cannot be trusted
+            graphqlModelCache.invalidate(loadedProject.sourceRoot());
+            return loadedProject;
         }
         return project.get();
     }
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
+import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test the reuse and the invalidation of the cached GraphQL models.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlModelCacheTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina", "graphql_services")
+            .toAbsolutePath();
+    private static final String DOCUMENT_NAME = "02_graphql_service.bal";
+    private static final LineRange SERVICE_LINE_RANGE = LineRange.from(PROJECT_PATH.resolve(DOCUMENT_NAME).toString(),
+            LinePosition.from(14, 0), LinePosition.from(25, 1));
+
+    private Project project;
+    private GraphqlModelCache graphqlModelCache;
+    private GraphqlModel graphqlModel;
+
+    @BeforeMethod
+    public void generateModel() throws GraphqlModelGenerationException {
+        project = loadProject();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+        graphqlModel = new ModelGenerator().getGraphqlModel(project, SERVICE_LINE_RANGE, semanticModel);
+        graphqlModelCache = new GraphqlModelCache();
+        graphqlModelCache.put(project, project.currentPackage(), SERVICE_LINE_RANGE, graphqlModel);
+    }
+
+    @Test(description = "test the reuse of the model of an unchanged package")
+    public void testCacheHit() {
+        Assert.assertSame(graphqlModelCache.get(project, project.currentPackage(), SERVICE_LINE_RANGE), graphqlModel);
+
+        // A reloaded project has another package snapshot, with the same digest
+        Project reloadedProject = loadProject();
+        Assert.assertSame(graphqlModelCache.get(reloadedProject, reloadedProject.currentPackage(), SERVICE_LINE_RANGE),
+                graphqlModel);
+    }
+
+    @Test(description = "test the invalidation of the model when a document of the package is edited")
+    public void testInvalidationOnDocumentEdit() {
+        editDocument();
+
+        Assert.assertNull(graphqlModelCache.get(project, project.currentPackage(), SERVICE_LINE_RANGE));
+    }
+
+    @Test(description = "test that a model is cached with the package it was generated from")
+    public void testPackageEditedDuringGeneration() {
+        // The package is edited after the model was generated from it, and before the model is cached
+        Package modelPackage = project.currentPackage();
+        editDocument();
+        GraphqlModelCache modelCache = new GraphqlModelCache();
+        modelCache.put(project, modelPackage, SERVICE_LINE_RANGE, graphqlModel);
+
+        Assert.assertNull(modelCache.get(project, project.currentPackage(), SERVICE_LINE_RANGE));
+    }
+
+    @Test(description = "test the invalidation of the model when the manifest of the package is edited")
+    public void testInvalidationOnManifestEdit() {
+        BallerinaToml ballerinaToml = project.currentPackage().ballerinaToml().orElseThrow();
+        String content = String.valueOf(ballerinaToml.tomlDocument().textDocument().toCharArray());
+        ballerinaToml.modify().withContent(content.replace("observabilityIncluded = true",
+                "observabilityIncluded = false")).apply();
+
+        Assert.assertNull(graphqlModelCache.get(project, project.currentPackage(), SERVICE_LINE_RANGE));
+    }
+
+    private void editDocument() {
+        Module module = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(DOCUMENT_NAME)) {
+                String content = document.syntaxTree().toSourceCode();
+                document.modify().withContent(content + "\n// Edited\n").apply();
+            }
+        }
+    }
+
+    private static Project loadProject() {
+        return BuildProject.load(PROJECT_PATH, BuildOptions.builder().setOffline(true).build());
+    }
+}
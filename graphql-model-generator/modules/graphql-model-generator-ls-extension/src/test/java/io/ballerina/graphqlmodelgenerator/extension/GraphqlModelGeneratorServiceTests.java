@@ -18,6 +18,9 @@
 
 package io.ballerina.graphqlmodelgenerator.extension;
 
+import io.ballerina.graphqlmodelgenerator.core.model.ResourceFunction;
+import io.ballerina.graphqlmodelgenerator.core.serialization.GraphqlModelGson;
+import io.ballerina.graphqlmodelgenerator.extension.GraphqlDesignServiceBatchResponse.GraphqlServiceDesignModel;
 import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
@@ -29,9 +32,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import static io.ballerina.graphqlmodelgenerator.core.Constants.DOCUMENT_NOT_IN_PROJECT_MSG;
+
 /**
  * Test cases for the graphql model generator service.
  *
@@ -42,6 +50,7 @@ public class GraphqlModelGeneratorServiceTests {
     private static final String BALLERINA = "ballerina";
     private static final String RESPONSES = "responses";
     private static final String PROJECT_DESIGN_SERVICE = "graphqlDesignService/getGraphqlModel";
+    private static final String BATCH_DESIGN_SERVICE = "graphqlDesignService/getGraphqlModels";
 
     private Endpoint serviceEndpoint;
 
@@ -148,6 +157,85 @@ public class GraphqlModelGeneratorServiceTests {
                 getExpectedResponse("08_resource_with_invalid_return.json"));
     }
 
+    @Test(description = "test repeated requests for an unchanged service are served from the model cache")
+    public void testRepeatedRequests() throws IOException, ExecutionException, InterruptedException {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(
+                Path.of("graphql_services", "02_graphql_service.bal"));
+
+        GraphqlDesignServiceRequest request = new GraphqlDesignServiceRequest(projectPath.toString(),
+                LinePosition.from(14, 0), LinePosition.from(25, 1));
+
+        String expectedResponse = getExpectedResponse("02_graphql_service.json");
+        Assert.assertEquals(getFormattedResponse(request, serviceEndpoint), expectedResponse);
+        Assert.assertEquals(getFormattedResponse(request, serviceEndpoint), expectedResponse);
+    }
+
+    @Test(description = "test generating the models of multiple services in a single request")
+    public void testBatchRequest() throws IOException, ExecutionException, InterruptedException {
+        Path servicesPath = RES_DIR.resolve(BALLERINA).resolve("graphql_services");
+        GraphqlDesignServiceRequest firstService = new GraphqlDesignServiceRequest(
+                servicesPath.resolve("02_graphql_service.bal").toString(),
+                LinePosition.from(14, 0), LinePosition.from(25, 1));
+        GraphqlDesignServiceRequest secondService = new GraphqlDesignServiceRequest(
+                servicesPath.resolve("06_file_uploads.bal").toString(),
+                LinePosition.from(2, 0), LinePosition.from(13, 1));
+        GraphqlDesignServiceBatchRequest request =
+                new GraphqlDesignServiceBatchRequest(null, List.of(firstService, secondService));
+
+        CompletableFuture<?> result = serviceEndpoint.request(BATCH_DESIGN_SERVICE, request);
+        GraphqlDesignServiceBatchResponse response = (GraphqlDesignServiceBatchResponse) result.get();
+        Assert.assertNull(response.getErrorMsg());
+        Assert.assertEquals(response.getGraphqlDesignModels().size(), 2);
+        Assert.assertEquals(getFormattedModel(response.getGraphqlDesignModels().get(0).getResponse()),
+                getExpectedResponse("02_graphql_service.json"));
+        Assert.assertEquals(getFormattedModel(response.getGraphqlDesignModels().get(1).getResponse()),
+                getExpectedResponse("06_file_uploads.json"));
+    }
+
+    @Test(description = "test generating the models of all the GraphQL services of a project in a single request")
+    public void testProjectBatchRequest() throws ExecutionException, InterruptedException {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve("graphql_project");
+        GraphqlDesignServiceBatchRequest request = new GraphqlDesignServiceBatchRequest(projectPath.toString(), null);
+
+        CompletableFuture<?> result = serviceEndpoint.request(BATCH_DESIGN_SERVICE, request);
+        GraphqlDesignServiceBatchResponse response = (GraphqlDesignServiceBatchResponse) result.get();
+        Assert.assertNull(response.getErrorMsg());
+
+        // Both the service declaration and the service object of the module variable are GraphQL services
+        Map<String, String> resources = new HashMap<>();
+        for (GraphqlServiceDesignModel designModel : response.getGraphqlDesignModels()) {
+            GraphqlDesignServiceResponse serviceResponse = designModel.getResponse();
+            Assert.assertNull(serviceResponse.getErrorMsg());
+            List<ResourceFunction> resourceFunctions =
+                    serviceResponse.getGraphqlDesignModel().getGraphqlService().getResourceFunctions();
+            Assert.assertEquals(resourceFunctions.size(), 1);
+            resources.put(Path.of(designModel.getService().getFilePath()).getFileName().toString(),
+                    resourceFunctions.get(0).getIdentifier());
+        }
+        Assert.assertEquals(resources, Map.of("service.bal", "books", "service_object.bal", "authors"));
+    }
+
+    @Test(description = "test a batch request for a service of a document which is not in the requested project")
+    public void testBatchRequestOfOtherProject() throws ExecutionException, InterruptedException {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve("graphql_project");
+        Path otherDocumentPath = RES_DIR.resolve(BALLERINA).resolve(
+                Path.of("graphql_services", "02_graphql_service.bal"));
+        GraphqlDesignServiceRequest service = new GraphqlDesignServiceRequest(otherDocumentPath.toString(),
+                LinePosition.from(14, 0), LinePosition.from(25, 1));
+        GraphqlDesignServiceBatchRequest request =
+                new GraphqlDesignServiceBatchRequest(projectPath.toString(), List.of(service));
+
+        CompletableFuture<?> result = serviceEndpoint.request(BATCH_DESIGN_SERVICE, request);
+        GraphqlDesignServiceBatchResponse response = (GraphqlDesignServiceBatchResponse) result.get();
+        Assert.assertNull(response.getErrorMsg());
+        Assert.assertEquals(response.getGraphqlDesignModels().size(), 1);
+        GraphqlDesignServiceResponse serviceResponse = response.getGraphqlDesignModels().get(0).getResponse();
+        Assert.assertTrue(serviceResponse.isIncompleteModel());
+        // The error names the project of the request, instead of blaming the semantic model of the document
+        Assert.assertEquals(serviceResponse.getErrorMsg(),
+                String.format(DOCUMENT_NOT_IN_PROJECT_MSG, projectPath, otherDocumentPath));
+    }
+
     private String getExpectedResponse(String fileName) throws IOException {
         return Files.readString(RES_DIR.resolve(RESPONSES).resolve(Path.of(fileName)))
                 .replaceAll("\\s+", "")
@@ -159,7 +247,11 @@ public class GraphqlModelGeneratorServiceTests {
             throws ExecutionException, InterruptedException {
         CompletableFuture<?> result = serviceEndpoint.request(PROJECT_DESIGN_SERVICE, request);
         GraphqlDesignServiceResponse response = (GraphqlDesignServiceResponse) result.get();
-        return response.getGraphqlDesignModel().toString().replaceAll("\\s+", "")
+        return getFormattedModel(response);
+    }
+
+    private String getFormattedModel(GraphqlDesignServiceResponse response) {
+        return GraphqlModelGson.GSON.toJsonTree(response.getGraphqlDesignModel()).toString().replaceAll("\\s+", "")
                 .replaceAll("\\\\\\\\", "/");
     }
 }
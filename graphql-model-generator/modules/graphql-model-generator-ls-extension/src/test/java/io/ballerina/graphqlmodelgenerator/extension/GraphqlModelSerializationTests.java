@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
+import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.graphqlmodelgenerator.core.serialization.GraphqlModelGson;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Test the serialization of the GraphQL model by the type adapters against the reflective serialization of Gson.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlModelSerializationTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina", "graphql_services")
+            .toAbsolutePath();
+    // Services of the project, by the document which declares them
+    private static final Map<String, LineRange> SERVICES = Map.of(
+            "01_graphql_service.bal", getLineRange(50, 89),
+            "02_graphql_service.bal", getLineRange(14, 25),
+            "03_service_with_interfaces.bal", getLineRange(52, 59),
+            "04_service_with_union_outputs.bal", getLineRange(48, 57),
+            "05_outputs_from_different_file.bal", getLineRange(4, 13),
+            "06_file_uploads.bal", getLineRange(2, 13),
+            "07_hierarchical_resource_paths.bal", getLineRange(2, 17));
+
+    @Test(description = "test that the type adapters write the same JSON as the reflective serialization")
+    public void testTypeAdapterSerialization() throws GraphqlModelGenerationException {
+        Project project = BuildProject.load(PROJECT_PATH, BuildOptions.builder().setOffline(true).build());
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+        Gson reflectiveGson = new GsonBuilder().serializeNulls().create();
+
+        for (Map.Entry<String, LineRange> service : SERVICES.entrySet()) {
+            LineRange lineRange = LineRange.from(PROJECT_PATH.resolve(service.getKey()).toString(),
+                    service.getValue().startLine(), service.getValue().endLine());
+            GraphqlModel graphqlModel = new ModelGenerator().getGraphqlModel(project, lineRange, semanticModel);
+
+            // The adapters keep the order of the fields, hence the JSON text is the same
+            Assert.assertEquals(GraphqlModelGson.GSON.toJson(graphqlModel), reflectiveGson.toJson(graphqlModel),
+                    service.getKey());
+        }
+    }
+
+    private static LineRange getLineRange(int startLine, int endLine) {
+        return LineRange.from("", LinePosition.from(startLine, 0), LinePosition.from(endLine, 1));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
+import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.graphqlmodelgenerator.core.serialization.GraphqlModelGson;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test the parallel generation of the components of a large GraphQL schema against the sequential generation.
+ *
+ * @since 2201.8.0
+ */
+public class GraphqlParallelGenerationTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina", "large_schema")
+            .toAbsolutePath();
+    private static final LineRange SERVICE_LINE_RANGE = LineRange.from(
+            PROJECT_PATH.resolve("catalog_service.bal").toString(), LinePosition.from(2, 0), LinePosition.from(7, 1));
+    // Records and enums of the fixture, which are enough to generate the components in parallel
+    private static final int RECORD_COUNT = 141;
+    private static final int ENUM_COUNT = 10;
+
+    @Test(description = "test that the components generated in parallel are the same as the sequential ones")
+    public void testParallelGeneration() throws GraphqlModelGenerationException, ExecutionException,
+            InterruptedException {
+        Project project = BuildProject.load(PROJECT_PATH, BuildOptions.builder().setOffline(true).build());
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+        GraphqlModel sequentialModel = new ModelGenerator().getGraphqlModel(project, SERVICE_LINE_RANGE,
+                semanticModel);
+
+        // The design service generates the model in a task of the executor, which runs the partitions as subtasks
+        ModelGeneratorExecutor modelGeneratorExecutor = new ModelGeneratorExecutor(4, 32);
+        GraphqlModel parallelModel = modelGeneratorExecutor.submit(null, ModelGeneratorExecutor.Priority.NORMAL, () -> {
+            try {
+                return new ModelGenerator(modelGeneratorExecutor).getGraphqlModel(project, SERVICE_LINE_RANGE,
+                        semanticModel);
+            } catch (GraphqlModelGenerationException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        Assert.assertEquals(parallelModel.getRecords().size(), RECORD_COUNT);
+        Assert.assertEquals(parallelModel.getEnums().size(), ENUM_COUNT);
+        Assert.assertEquals(GraphqlModelGson.GSON.toJson(parallelModel), GraphqlModelGson.GSON.toJson(sequentialModel));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphqlmodelgenerator.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
+import io.ballerina.graphqlmodelgenerator.core.SyntaxTreeProvider;
+import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
+import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.graphqlmodelgenerator.core.utils.ModelGenerationUtils;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.stdlib.graphql.commons.types.LinePosition;
+import io.ballerina.stdlib.graphql.commons.types.Position;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test the resolution of the positions of the GraphQL schema fields in the documents which define the fields.
+ *
+ * @since 2201.8.0
+ */
+public class SyntaxTreeProviderTests {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "ballerina",
+            "cross_document_fields").toAbsolutePath();
+    private static final String SERVICE_DOCUMENT = "service.bal";
+    private static final String PROFILE_DOCUMENT = "profile.bal";
+
+    private Project project;
+    private SyntaxTree serviceSyntaxTree;
+    private SyntaxTree profileSyntaxTree;
+
+    @BeforeClass
+    public void loadProject() {
+        project = BuildProject.load(PROJECT_PATH, BuildOptions.builder().setOffline(true).build());
+        serviceSyntaxTree = getSyntaxTree(SERVICE_DOCUMENT);
+        profileSyntaxTree = getSyntaxTree(PROFILE_DOCUMENT);
+    }
+
+    @Test(description = "test the resolution of a field defined in a document other than the one of the service")
+    public void testFieldOfOtherDocument() {
+        SyntaxTreeProvider syntaxTreeProvider = new SyntaxTreeProvider(project, serviceSyntaxTree);
+        // Name of the `name` resource function of the Profile service class
+        Position fieldPosition = new Position(PROJECT_PATH.resolve(PROFILE_DOCUMENT).toString(),
+                new LinePosition(9, 35), new LinePosition(9, 39));
+
+        SyntaxTree syntaxTree = syntaxTreeProvider.getSyntaxTree(fieldPosition);
+        Assert.assertSame(syntaxTree, profileSyntaxTree);
+        // The syntax tree of a document is loaded once for the model generation
+        Assert.assertSame(syntaxTreeProvider.getSyntaxTree(fieldPosition), syntaxTree);
+
+        Position nodePosition = ModelGenerationUtils.findNodeRange(fieldPosition, syntaxTree);
+        Assert.assertEquals(nodePosition.getFilePath(), fieldPosition.getFilePath());
+        Assert.assertEquals(nodePosition.getStartLine().getLine(), 9);
+        Assert.assertEquals(nodePosition.getStartLine().getOffset(), 4);
+        Assert.assertEquals(nodePosition.getEndLine().getLine(), 11);
+        Assert.assertEquals(nodePosition.getEndLine().getOffset(), 5);
+    }
+
+    @Test(description = "test the resolution of a field defined in the document of the service")
+    public void testFieldOfServiceDocument() {
+        SyntaxTreeProvider syntaxTreeProvider = new SyntaxTreeProvider(project, serviceSyntaxTree);
+        Position fieldPosition = new Position(PROJECT_PATH.resolve(SERVICE_DOCUMENT).toString(),
+                new LinePosition(4, 23), new LinePosition(4, 30));
+
+        Assert.assertSame(syntaxTreeProvider.getSyntaxTree(fieldPosition), serviceSyntaxTree);
+    }
+
+    @Test(description = "test the fallback to the syntax tree of the service for a position outside the project")
+    public void testFieldOutsideProject() {
+        SyntaxTreeProvider syntaxTreeProvider = new SyntaxTreeProvider(project, serviceSyntaxTree);
+        Position fieldPosition = new Position(PROJECT_PATH.resolveSibling("other.bal").toString(),
+                new LinePosition(0, 0), new LinePosition(0, 1));
+
+        Assert.assertSame(syntaxTreeProvider.getSyntaxTree(fieldPosition), serviceSyntaxTree);
+    }
+
+    @Test(description = "test the generation of the model of a service which returns a class of another document")
+    public void testModelGeneration() throws GraphqlModelGenerationException {
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+        LineRange serviceLineRange = LineRange.from(PROJECT_PATH.resolve(SERVICE_DOCUMENT).toString(),
+                io.ballerina.tools.text.LinePosition.from(2, 0), io.ballerina.tools.text.LinePosition.from(7, 1));
+
+        GraphqlModel graphqlModel = new ModelGenerator().getGraphqlModel(project, serviceLineRange, semanticModel);
+        Assert.assertEquals(graphqlModel.getGraphqlService().getResourceFunctions().size(), 1);
+        Assert.assertTrue(graphqlModel.getServiceClasses().containsKey("Profile"));
+    }
+
+    private SyntaxTree getSyntaxTree(String documentName) {
+        Module module = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(documentName)) {
+                return document.syntaxTree();
+            }
+        }
+        throw new IllegalArgumentException("Document not found: " + documentName);
+    }
+}
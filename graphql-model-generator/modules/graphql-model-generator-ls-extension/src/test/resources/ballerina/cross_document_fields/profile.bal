@@ -0,0 +1,17 @@
+public isolated service class Profile {
+    private final string name;
+    private final int age;
+
+    isolated function init(string name, int age) {
+        self.name = name;
+        self.age = age;
+    }
+
+    isolated resource function get name() returns string {
+        return self.name;
+    }
+
+    isolated resource function get age() returns int {
+        return self.age;
+    }
+}
@@ -0,0 +1,8 @@
+import ballerina/graphql;
+
+service /graphql on new graphql:Listener(9090) {
+
+    resource function get profile() returns Profile {
+        return new ("Walter White", 51);
+    }
+}
@@ -0,0 +1,12 @@
+import ballerina/graphql;
+
+configurable int port = 9090;
+
+listener graphql:Listener graphqlListener = new (port);
+
+service /books on graphqlListener {
+
+    resource function get books() returns string[] {
+        return ["Dune", "Emma"];
+    }
+}
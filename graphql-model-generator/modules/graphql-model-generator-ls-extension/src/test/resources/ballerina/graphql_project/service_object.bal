@@ -0,0 +1,12 @@
+import ballerina/graphql;
+
+graphql:Service authorsService = service object {
+
+    resource function get authors() returns string[] {
+        return ["Frank Herbert", "Jane Austen"];
+    }
+};
+
+function init() returns error? {
+    check graphqlListener.attach(authorsService, "authors");
+}
@@ -0,0 +1,1042 @@
+import ballerina/graphql;
+
+service /catalog on new graphql:Listener(9090) {
+
+    resource function get catalog() returns Catalog? {
+        return ();
+    }
+}
+
+# Catalog which refers to enough types to generate the components of the schema in parallel
+public type Catalog record {|
+    Product0 product0;
+    Product1 product1;
+    Product2 product2;
+    Product3 product3;
+    Product4 product4;
+    Product5 product5;
+    Product6 product6;
+    Product7 product7;
+    Product8 product8;
+    Product9 product9;
+    Product10 product10;
+    Product11 product11;
+    Product12 product12;
+    Product13 product13;
+    Product14 product14;
+    Product15 product15;
+    Product16 product16;
+    Product17 product17;
+    Product18 product18;
+    Product19 product19;
+    Product20 product20;
+    Product21 product21;
+    Product22 product22;
+    Product23 product23;
+    Product24 product24;
+    Product25 product25;
+    Product26 product26;
+    Product27 product27;
+    Product28 product28;
+    Product29 product29;
+    Product30 product30;
+    Product31 product31;
+    Product32 product32;
+    Product33 product33;
+    Product34 product34;
+    Product35 product35;
+    Product36 product36;
+    Product37 product37;
+    Product38 product38;
+    Product39 product39;
+    Product40 product40;
+    Product41 product41;
+    Product42 product42;
+    Product43 product43;
+    Product44 product44;
+    Product45 product45;
+    Product46 product46;
+    Product47 product47;
+    Product48 product48;
+    Product49 product49;
+    Product50 product50;
+    Product51 product51;
+    Product52 product52;
+    Product53 product53;
+    Product54 product54;
+    Product55 product55;
+    Product56 product56;
+    Product57 product57;
+    Product58 product58;
+    Product59 product59;
+    Product60 product60;
+    Product61 product61;
+    Product62 product62;
+    Product63 product63;
+    Product64 product64;
+    Product65 product65;
+    Product66 product66;
+    Product67 product67;
+    Product68 product68;
+    Product69 product69;
+    Product70 product70;
+    Product71 product71;
+    Product72 product72;
+    Product73 product73;
+    Product74 product74;
+    Product75 product75;
+    Product76 product76;
+    Product77 product77;
+    Product78 product78;
+    Product79 product79;
+    Product80 product80;
+    Product81 product81;
+    Product82 product82;
+    Product83 product83;
+    Product84 product84;
+    Product85 product85;
+    Product86 product86;
+    Product87 product87;
+    Product88 product88;
+    Product89 product89;
+    Product90 product90;
+    Product91 product91;
+    Product92 product92;
+    Product93 product93;
+    Product94 product94;
+    Product95 product95;
+    Product96 product96;
+    Product97 product97;
+    Product98 product98;
+    Product99 product99;
+    Product100 product100;
+    Product101 product101;
+    Product102 product102;
+    Product103 product103;
+    Product104 product104;
+    Product105 product105;
+    Product106 product106;
+    Product107 product107;
+    Product108 product108;
+    Product109 product109;
+    Product110 product110;
+    Product111 product111;
+    Product112 product112;
+    Product113 product113;
+    Product114 product114;
+    Product115 product115;
+    Product116 product116;
+    Product117 product117;
+    Product118 product118;
+    Product119 product119;
+    Product120 product120;
+    Product121 product121;
+    Product122 product122;
+    Product123 product123;
+    Product124 product124;
+    Product125 product125;
+    Product126 product126;
+    Product127 product127;
+    Product128 product128;
+    Product129 product129;
+    Product130 product130;
+    Product131 product131;
+    Product132 product132;
+    Product133 product133;
+    Product134 product134;
+    Product135 product135;
+    Product136 product136;
+    Product137 product137;
+    Product138 product138;
+    Product139 product139;
+|};
+
+public type Product0 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product1 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product2 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product3 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product4 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product5 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product6 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product7 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product8 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product9 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product10 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product11 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product12 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product13 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product14 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product15 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product16 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product17 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product18 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product19 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product20 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product21 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product22 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product23 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product24 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product25 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product26 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product27 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product28 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product29 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product30 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product31 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product32 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product33 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product34 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product35 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product36 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product37 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product38 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product39 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product40 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product41 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product42 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product43 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product44 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product45 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product46 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product47 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product48 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product49 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product50 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product51 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product52 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product53 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product54 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product55 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product56 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product57 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product58 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product59 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product60 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product61 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product62 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product63 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product64 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product65 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product66 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product67 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product68 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product69 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product70 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product71 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product72 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product73 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product74 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product75 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product76 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product77 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product78 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product79 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product80 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product81 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product82 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product83 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product84 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product85 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product86 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product87 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product88 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product89 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product90 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product91 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product92 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product93 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product94 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product95 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product96 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product97 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product98 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product99 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product100 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product101 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product102 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product103 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product104 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product105 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product106 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product107 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product108 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product109 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product110 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product111 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product112 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product113 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product114 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product115 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product116 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product117 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product118 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product119 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product120 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product121 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product122 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product123 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product124 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product125 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product126 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product127 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product128 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product129 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public type Product130 record {|
+    int id;
+    string name;
+    Status0 status;
+|};
+
+public type Product131 record {|
+    int id;
+    string name;
+    Status1 status;
+|};
+
+public type Product132 record {|
+    int id;
+    string name;
+    Status2 status;
+|};
+
+public type Product133 record {|
+    int id;
+    string name;
+    Status3 status;
+|};
+
+public type Product134 record {|
+    int id;
+    string name;
+    Status4 status;
+|};
+
+public type Product135 record {|
+    int id;
+    string name;
+    Status5 status;
+|};
+
+public type Product136 record {|
+    int id;
+    string name;
+    Status6 status;
+|};
+
+public type Product137 record {|
+    int id;
+    string name;
+    Status7 status;
+|};
+
+public type Product138 record {|
+    int id;
+    string name;
+    Status8 status;
+|};
+
+public type Product139 record {|
+    int id;
+    string name;
+    Status9 status;
+|};
+
+public enum Status0 {
+    AVAILABLE_0,
+    DISCONTINUED_0
+}
+
+public enum Status1 {
+    AVAILABLE_1,
+    DISCONTINUED_1
+}
+
+public enum Status2 {
+    AVAILABLE_2,
+    DISCONTINUED_2
+}
+
+public enum Status3 {
+    AVAILABLE_3,
+    DISCONTINUED_3
+}
+
+public enum Status4 {
+    AVAILABLE_4,
+    DISCONTINUED_4
+}
+
+public enum Status5 {
+    AVAILABLE_5,
+    DISCONTINUED_5
+}
+
+public enum Status6 {
+    AVAILABLE_6,
+    DISCONTINUED_6
+}
+
+public enum Status7 {
+    AVAILABLE_7,
+    DISCONTINUED_7
+}
+
+public enum Status8 {
+    AVAILABLE_8,
+    DISCONTINUED_8
+}
+
+public enum Status9 {
+    AVAILABLE_9,
+    DISCONTINUED_9
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.benchmarks;
+
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModel;
+import io.ballerina.architecturemodelgenerator.core.ArchitectureModelBuilder;
+import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.service.ServiceModelGenerator;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the architecture model generation of a compiled package.
+ * <p>
+ * The package is loaded and compiled once per trial, hence the benchmarks measure the model generation only. As the
+ * indexes the generators cache per compilation are reused across invocations, these benchmarks measure the warm path,
+ * while the {@code Cold} benchmarks generate the model of a new compilation of the package in each invocation.
+ *
+ * @since 2201.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArchitectureModelBenchmark {
+
+    @Param({"single_service_sample", "type_gen_simple", "synthetic-1-10-5-2-20-0", "synthetic-4-50-5-3-125-0",
+            "synthetic-10-200-5-3-500-0"})
+    public String packageName;
+
+    private Project project;
+    private Package currentPackage;
+    private PackageCompilation packageCompilation;
+    private final List<Module> modules = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        project = BenchmarkPackages.load(packageName);
+        currentPackage = project.currentPackage();
+        packageCompilation = currentPackage.getCompilation();
+        currentPackage.modules().forEach(modules::add);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkPackages.cleanUp(project);
+    }
+
+    @Benchmark
+    public ArchitectureModel constructComponentModel() {
+        ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+        return architectureModelBuilder.constructComponentModel(currentPackage, packageCompilation);
+    }
+
+    @Benchmark
+    public ArchitectureModel constructComponentModelCold(ColdCompilation coldCompilation) {
+        ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+        return architectureModelBuilder.constructComponentModel(coldCompilation.currentPackage,
+                coldCompilation.packageCompilation);
+    }
+
+    @Benchmark
+    public void generateServices(Blackhole blackhole) {
+        for (Module module : modules) {
+            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(packageCompilation, module);
+            blackhole.consume(serviceModelGenerator.generate());
+        }
+    }
+
+    @Benchmark
+    public void generateEntities(Blackhole blackhole) {
+        for (Module module : modules) {
+            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
+            blackhole.consume(entityModelGenerator.generate());
+        }
+    }
+
+    /**
+     * New compilation of the benchmarked package, which is loaded and compiled again before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class ColdCompilation {
+
+        private Package currentPackage;
+        private PackageCompilation packageCompilation;
+
+        @Setup(Level.Invocation)
+        public void setUp(ArchitectureModelBenchmark benchmark) {
+            currentPackage = BenchmarkPackages.reload(benchmark.project).currentPackage();
+            packageCompilation = currentPackage.getCompilation();
+        }
+    }
+}
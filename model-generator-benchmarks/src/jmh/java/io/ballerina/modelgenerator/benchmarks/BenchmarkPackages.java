@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.benchmarks;
+
+import io.ballerina.architecturemodelgenerator.core.fixtures.SyntheticPackageGenerator;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the packages used by the benchmarks.
+ * <p>
+ * A package is either the name of a test resource package of the model generators, or a synthetic package given as
+ * {@code synthetic-<modules>-<services>-<resources>-<call depth>-<records>-<graphql types>}, which is written to a
+ * temporary directory by the {@link SyntheticPackageGenerator}.
+ *
+ * @since 2201.8.0
+ */
+public class BenchmarkPackages {
+
+    private static final String ROOT_DIR_PROPERTY = "modelgenerator.benchmark.rootDir";
+    private static final String SYNTHETIC_PREFIX = "synthetic-";
+    private static final String SYNTHETIC_DIR_PREFIX = "model-generator-benchmark";
+
+    private static final Map<String, Path> TEST_RESOURCE_PACKAGES = Map.of(
+            "single_service_sample", Paths.get("architecture-model-generator", "modules",
+                    "architecture-model-generator-core", "src", "test", "resources", "ballerina",
+                    "single_service_sample"),
+            "type_gen_simple", Paths.get("architecture-model-generator", "modules",
+                    "architecture-model-generator-core", "src", "test", "resources", "ballerina", "type_gen_simple"),
+            "graphql_services", Paths.get("graphql-model-generator", "modules",
+                    "graphql-model-generator-ls-extension", "src", "test", "resources", "ballerina",
+                    "graphql_services")
+    );
+
+    private BenchmarkPackages() {
+    }
+
+    public static Project load(String packageName) throws IOException {
+        BuildOptions buildOptions = BuildOptions.builder().setOffline(true).build();
+        return BuildProject.load(resolve(packageName), buildOptions);
+    }
+
+    /**
+     * Loads the given package again, so that its compilation and the indexes the generators cache for it are new.
+     *
+     * @param project package loaded by {@link #load(String)}
+     * @return newly loaded package
+     */
+    public static Project reload(Project project) {
+        BuildOptions buildOptions = BuildOptions.builder().setOffline(true).build();
+        return BuildProject.load(project.sourceRoot(), buildOptions);
+    }
+
+    public static void cleanUp(Project project) throws IOException {
+        Path sourceRoot = project.sourceRoot();
+        if (!sourceRoot.getFileName().toString().startsWith(SYNTHETIC_DIR_PREFIX)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Path resolve(String packageName) throws IOException {
+        if (packageName.startsWith(SYNTHETIC_PREFIX)) {
+            String[] sizes = packageName.substring(SYNTHETIC_PREFIX.length()).split("-");
+            if (sizes.length != 6) {
+                throw new IllegalArgumentException("Invalid synthetic package: " + packageName);
+            }
+            return new SyntheticPackageGenerator()
+                    .setModuleCount(Integer.parseInt(sizes[0]))
+                    .setServiceCount(Integer.parseInt(sizes[1]))
+                    .setResourceCount(Integer.parseInt(sizes[2]))
+                    .setCallDepth(Integer.parseInt(sizes[3]))
+                    .setRecordCount(Integer.parseInt(sizes[4]))
+                    .setGraphqlTypeCount(Integer.parseInt(sizes[5]))
+                    .generate(Files.createTempDirectory(SYNTHETIC_DIR_PREFIX));
+        }
+
+        Path relativePath = TEST_RESOURCE_PACKAGES.get(packageName);
+        if (relativePath == null) {
+            throw new IllegalArgumentException("Unknown benchmark package: " + packageName);
+        }
+        String rootDir = System.getProperty(ROOT_DIR_PROPERTY, ".");
+        return Paths.get(rootDir).resolve(relativePath).toAbsolutePath();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.benchmarks;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
+import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
+import io.ballerina.graphqlmodelgenerator.core.utils.ModelGenerationUtils;
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.stdlib.graphql.commons.types.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.graphql.compiler.Utils.getSchemaObject;
+
+/**
+ * Benchmarks the GraphQL model generation of the GraphQL services of a compiled package.
+ * <p>
+ * The schema of each service is generated once per trial, hence the benchmark measures
+ * {@link ModelGenerator#constructGraphqlModel} only, with the indexes the generator caches per syntax tree reused
+ * across invocations. The {@code Parallel} benchmark generates the components of large schemas in parallel on the
+ * shared model generator executor, as the design service does. The {@code Cold} benchmark generates the models of a
+ * new compilation of the package, whose schemas are generated before each invocation.
+ *
+ * @since 2201.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GraphqlModelBenchmark {
+
+    private static final String BALLERINA_ORG = "ballerina";
+    private static final String GRAPHQL_MODULE = "graphql";
+
+    @Param({"graphql_services", "synthetic-1-0-0-0-1-20", "synthetic-1-0-0-0-1-500", "synthetic-4-0-0-0-1-1250"})
+    public String packageName;
+
+    private Project project;
+    private List<GraphqlService> graphqlServices;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        project = BenchmarkPackages.load(packageName);
+        graphqlServices = getGraphqlServices(project);
+        if (graphqlServices.isEmpty()) {
+            throw new IllegalStateException("No GraphQL services found in the package: " + packageName);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkPackages.cleanUp(project);
+    }
+
+    @Benchmark
+    public void constructGraphqlModel(Blackhole blackhole) throws GraphqlModelGenerationException {
+        constructGraphqlModels(new ModelGenerator(), graphqlServices, blackhole);
+    }
+
+    @Benchmark
+    public void constructGraphqlModelParallel(Blackhole blackhole) throws GraphqlModelGenerationException {
+        constructGraphqlModels(new ModelGenerator(ModelGeneratorExecutor.getInstance()), graphqlServices, blackhole);
+    }
+
+    @Benchmark
+    public void constructGraphqlModelCold(ColdCompilation coldCompilation, Blackhole blackhole)
+            throws GraphqlModelGenerationException {
+        constructGraphqlModels(new ModelGenerator(), coldCompilation.graphqlServices, blackhole);
+    }
+
+    private static void constructGraphqlModels(ModelGenerator modelGenerator, List<GraphqlService> graphqlServices,
+                                               Blackhole blackhole) throws GraphqlModelGenerationException {
+        for (GraphqlService graphqlService : graphqlServices) {
+            blackhole.consume(modelGenerator.constructGraphqlModel(graphqlService.schema,
+                    graphqlService.serviceName, graphqlService.serviceDeclarationNode.lineRange(),
+                    graphqlService.syntaxTree));
+        }
+    }
+
+    private static List<GraphqlService> getGraphqlServices(Project project) {
+        List<GraphqlService> graphqlServices = new ArrayList<>();
+        PackageCompilation packageCompilation = project.currentPackage().getCompilation();
+        for (Module module : project.currentPackage().modules()) {
+            SemanticModel semanticModel = packageCompilation.getSemanticModel(module.moduleId());
+            for (DocumentId documentId : module.documentIds()) {
+                SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+                for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+                    if (member.kind() != SyntaxKind.SERVICE_DECLARATION ||
+                            !isGraphqlService((ServiceDeclarationNode) member, semanticModel)) {
+                        continue;
+                    }
+                    Schema schema = getSchemaObject(member, semanticModel, project);
+                    if (schema == null || schema.getTypes().isEmpty()) {
+                        continue;
+                    }
+                    ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) member;
+                    graphqlServices.add(new GraphqlService(schema,
+                            ModelGenerationUtils.getServiceBasePath(serviceDeclarationNode), serviceDeclarationNode,
+                            syntaxTree));
+                }
+            }
+        }
+        return graphqlServices;
+    }
+
+    private static boolean isGraphqlService(ServiceDeclarationNode serviceDeclarationNode,
+                                            SemanticModel semanticModel) {
+        for (ExpressionNode expressionNode : serviceDeclarationNode.expressions()) {
+            Optional<TypeSymbol> listenerType = semanticModel.typeOf(expressionNode);
+            if (listenerType.isEmpty() || listenerType.get().getModule().isEmpty()) {
+                continue;
+            }
+            ModuleID moduleID = listenerType.get().getModule().get().id();
+            if (moduleID.orgName().equals(BALLERINA_ORG) && moduleID.moduleName().equals(GRAPHQL_MODULE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * GraphQL services of a new compilation of the benchmarked package, which is loaded and compiled again before
+     * each invocation.
+     */
+    @State(Scope.Thread)
+    public static class ColdCompilation {
+
+        private List<GraphqlService> graphqlServices;
+
+        @Setup(Level.Invocation)
+        public void setUp(GraphqlModelBenchmark benchmark) {
+            graphqlServices = getGraphqlServices(BenchmarkPackages.reload(benchmark.project));
+        }
+    }
+
+    /**
+     * GraphQL service of the package, with the schema generated by the GraphQL compiler plugin.
+     */
+    private static class GraphqlService {
+
+        private final Schema schema;
+        private final String serviceName;
+        private final ServiceDeclarationNode serviceDeclarationNode;
+        private final SyntaxTree syntaxTree;
+
+        private GraphqlService(Schema schema, String serviceName, ServiceDeclarationNode serviceDeclarationNode,
+                               SyntaxTree syntaxTree) {
+            this.schema = schema;
+            this.serviceName = serviceName;
+            this.serviceDeclarationNode = serviceDeclarationNode;
+            this.syntaxTree = syntaxTree;
+        }
+    }
+}
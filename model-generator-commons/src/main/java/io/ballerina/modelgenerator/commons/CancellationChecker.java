@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lets a caller cancel the model generation running on a thread.
+ * <p>
+ * The generators check for cancellation at cooperative points, such as before visiting a function body or a type
+ * definition, and stop by throwing a {@link CancellationException}. The condition is bound to the thread which runs
+ * the generation, hence the generators do not need to pass it around, and generation without a condition is never
+ * cancelled.
+ *
+ * @since 2201.8.0
+ */
+public class CancellationChecker {
+
+    private static final ThreadLocal<BooleanSupplier> CANCELLED = new ThreadLocal<>();
+    private static final String CANCELLED_MSG = "Model generation was cancelled";
+
+    private CancellationChecker() {
+    }
+
+    /**
+     * Runs the given model generation on the current thread, cancelling it once the given condition holds.
+     *
+     * @param cancelled condition which holds once the generation is cancelled, or null if it cannot be cancelled
+     * @param supplier  model generation to run
+     * @param <T>       type of the generated model
+     * @return generated model
+     * @throws CancellationException if the generation is cancelled
+     */
+    public static <T> T run(BooleanSupplier cancelled, Supplier<T> supplier) {
+        BooleanSupplier outerCancelled = CANCELLED.get();
+        CANCELLED.set(cancelled);
+        try {
+            return supplier.get();
+        } finally {
+            if (outerCancelled == null) {
+                CANCELLED.remove();
+            } else {
+                CANCELLED.set(outerCancelled);
+            }
+        }
+    }
+
+    /**
+     * Returns the cancellation condition of the model generation running on the current thread, so that the work
+     * it hands over to other threads can be run with the same condition.
+     *
+     * @return cancellation condition, or null if the generation cannot be cancelled
+     */
+    public static BooleanSupplier current() {
+        return CANCELLED.get();
+    }
+
+    public static boolean isCancelled() {
+        BooleanSupplier cancelled = CANCELLED.get();
+        return cancelled != null && cancelled.getAsBoolean();
+    }
+
+    /**
+     * Stops the model generation running on the current thread if it has been cancelled.
+     *
+     * @throws CancellationException if the generation has been cancelled
+     */
+    public static void checkCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException(CANCELLED_MSG);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Executor which runs the model generation of the design services of the language server extensions, instead of the
+ * common fork join pool shared with the rest of the language server.
+ * <p>
+ * The executor has a fixed number of named daemon threads and a bounded queue, in which the tasks are ordered by
+ * their priority. The number of threads and the capacity of the queue can be configured with the
+ * {@value #THREADS_PROPERTY} and {@value #QUEUE_CAPACITY_PROPERTY} system properties.
+ * <p>
+ * Requests are coalesced by their key. A task accepted by the queue with the key of a queued or running task
+ * supersedes that task: the superseded task is removed from the queue or cancelled at the next cancellation check of
+ * the generators. Unless it completes first, the future of the superseded task is completed with the result of the
+ * newer task if both tasks have equal arguments, and is cancelled otherwise, as the result of the newer task does not
+ * answer it.
+ *
+ * @since 2201.8.0
+ */
+public class ModelGeneratorExecutor {
+
+    public static final String THREADS_PROPERTY = "ballerina.modelGenerator.threads";
+    public static final String QUEUE_CAPACITY_PROPERTY = "ballerina.modelGenerator.queueCapacity";
+    private static final String THREAD_NAME_PREFIX = "model-generator-";
+    private static final int DEFAULT_QUEUE_CAPACITY = 32;
+    // Task running on the current thread, whose priority is given to the subtasks it submits
+    private static final ThreadLocal<Task<?>> CURRENT_TASK = new ThreadLocal<>();
+
+    private static ModelGeneratorExecutor instance;
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final Map<String, Task<?>> activeTasks = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ModelGeneratorExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new BoundedPriorityQueue(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Returns the executor shared by the design services, creating it with the configured number of threads and
+     * queue capacity on first use.
+     *
+     * @return shared executor
+     */
+    public static synchronized ModelGeneratorExecutor getInstance() {
+        if (instance == null) {
+            int defaultThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            instance = new ModelGeneratorExecutor(Integer.getInteger(THREADS_PROPERTY, defaultThreads),
+                    Integer.getInteger(QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY));
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a model generation task.
+     * <p>
+     * The returned future is completed exceptionally with a {@link RejectedExecutionException} when the queue is
+     * full. Cancelling the returned future, as the JSON-RPC layer does when the client cancels the request, removes
+     * the task from the queue or cancels the running generation.
+     *
+     * @param key      key which identifies the request, such as the request name and the document it is for, or null
+     *                 if the task cannot be coalesced with other tasks
+     * @param priority priority of the task
+     * @param supplier generates the result of the task
+     * @param <T>      type of the result
+     * @return future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> submit(String key, Priority priority, Supplier<T> supplier) {
+        return submit(key, null, priority, supplier);
+    }
+
+    /**
+     * Queues a model generation task, which supersedes the active task of the same key whatever its arguments.
+     * <p>
+     * This is meant for requests of which only the latest one matters for a key, such as the requests for the models
+     * of the different services of a document. The task of the superseded request is only given the result of this
+     * task when the arguments of both requests are equal.
+     *
+     * @param key       key which identifies the subject of the request, such as the document it is for, or null if
+     *                  the task cannot be coalesced with other tasks
+     * @param arguments arguments of the request which are not part of its key, or null if the key identifies the
+     *                  request
+     * @param priority  priority of the task
+     * @param supplier  generates the result of the task
+     * @param <T>       type of the result
+     * @return future completed with the result of the task
+     * @see #submit(String, Priority, Supplier)
+     */
+    public <T> CompletableFuture<T> submit(String key, Object arguments, Priority priority, Supplier<T> supplier) {
+        Task<T> task = new Task<>(key, arguments, priority, supplier);
+        try {
+            threadPoolExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // A rejected task does not supersede the active task of its key, which is still answered
+            task.future.completeExceptionally(e);
+            return task.future;
+        }
+
+        if (key != null) {
+            Task<?> supersededTask = activeTasks.put(key, task);
+            if (supersededTask != null) {
+                supersede(supersededTask, task);
+            }
+        }
+        // Registered after the task is activated, so that a task which already completed is deactivated as well
+        task.future.whenComplete((result, error) -> {
+            deactivate(task);
+            if (task.future.isCancelled()) {
+                threadPoolExecutor.remove(task);
+            }
+        });
+        return task.future;
+    }
+
+    /**
+     * Runs the given subtasks of a running task in parallel, and returns their results in the given order.
+     * <p>
+     * The subtasks are queued with the priority of the task which runs them, so that the subtasks of a request do not
+     * run ahead of the requests of a higher priority. The calling thread runs each subtask no other thread has picked
+     * yet, hence a task never waits for a subtask which is stuck in the queue.
+     *
+     * @param suppliers generate the results of the subtasks
+     * @param <T>       type of the results
+     * @return results of the subtasks
+     */
+    public <T> List<T> invokeAll(List<Supplier<T>> suppliers) {
+        Task<?> currentTask = CURRENT_TASK.get();
+        Priority priority = currentTask != null ? currentTask.priority : Priority.NORMAL;
+        List<Task<T>> tasks = new ArrayList<>();
+        for (Supplier<T> supplier : suppliers) {
+            Task<T> task = new Task<>(null, null, priority, supplier);
+            tasks.add(task);
+            try {
+                threadPoolExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The calling thread runs the subtask
+            }
+        }
+        for (Task<T> task : tasks) {
+            if (task.started.compareAndSet(false, true)) {
+                threadPoolExecutor.remove(task);
+                task.complete();
+            }
+        }
+
+        List<T> results = new ArrayList<>();
+        try {
+            for (Task<T> task : tasks) {
+                results.add(task.future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void supersede(Task<?> supersededTask, Task<T> task) {
+        // Tasks with the same key are of the same request, hence they have the same type of result
+        Task<T> olderTask = (Task<T>) supersededTask;
+        olderTask.superseded = true;
+        threadPoolExecutor.remove(olderTask);
+        if (!Objects.equals(olderTask.arguments, task.arguments)) {
+            olderTask.future.cancel(false);
+            return;
+        }
+        task.future.whenComplete((result, error) -> {
+            if (error == null) {
+                olderTask.future.complete(result);
+            } else {
+                olderTask.future.completeExceptionally(error);
+            }
+        });
+    }
+
+    private void deactivate(Task<?> task) {
+        if (task.key != null) {
+            activeTasks.remove(task.key, task);
+        }
+    }
+
+    /**
+     * Priority of a model generation task. Tasks of a higher priority are run first, and tasks of the same priority
+     * are run in the order they were submitted.
+     */
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
+    /**
+     * Model generation task, ordered by its priority and submission order in the queue.
+     *
+     * @param <T> type of the result
+     */
+    private class Task<T> implements Runnable, Comparable<Task<?>> {
+
+        private final String key;
+        private final Object arguments;
+        private final Priority priority;
+        private final long sequenceNumber;
+        private final Supplier<T> supplier;
+        // Cancellation condition of the task which submitted this task as a subtask
+        private final BooleanSupplier parentCancelled;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private volatile boolean superseded = false;
+
+        private Task(String key, Object arguments, Priority priority, Supplier<T> supplier) {
+            this.key = key;
+            this.arguments = arguments;
+            this.priority = priority;
+            this.sequenceNumber = sequence.incrementAndGet();
+            this.supplier = supplier;
+            this.parentCancelled = CancellationChecker.current();
+        }
+
+        @Override
+        public void run() {
+            if (started.compareAndSet(false, true)) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            if (superseded || future.isDone()) {
+                return;
+            }
+            Task<?> outerTask = CURRENT_TASK.get();
+            CURRENT_TASK.set(this);
+            try {
+                future.complete(CancellationChecker.run(this::isCancelled, supplier));
+            } catch (CancellationException e) {
+                // A superseded task is completed with the result of the newer task
+                if (!superseded) {
+                    future.completeExceptionally(e);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                if (outerTask == null) {
+                    CURRENT_TASK.remove();
+                } else {
+                    CURRENT_TASK.set(outerTask);
+                }
+            }
+        }
+
+        private boolean isCancelled() {
+            return superseded || future.isDone() || (parentCancelled != null && parentCancelled.getAsBoolean());
+        }
+
+        @Override
+        public int compareTo(Task<?> task) {
+            int priorityOrder = priority.compareTo(task.priority);
+            return priorityOrder != 0 ? priorityOrder : Long.compare(sequenceNumber, task.sequenceNumber);
+        }
+    }
+
+    /**
+     * Priority queue which does not accept more than the given number of tasks.
+     */
+    private static class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+
+        private final int capacity;
+
+        private BoundedPriorityQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized boolean offer(Runnable runnable) {
+            return size() < capacity && super.offer(runnable);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.modelgenerator.commons.ModelGeneratorExecutor.Priority;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Test the executor of the model generation tasks.
+ *
+ * @since 2201.8.0
+ */
+public class ModelGeneratorExecutorTests {
+
+    @Test(description = "Test the order in which the queued tasks are run")
+    public void testPriorityOrder() throws InterruptedException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 8);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<Void> blockingTask = executor.submit(null, Priority.NORMAL, () -> {
+            awaitLatch(latch);
+            return null;
+        });
+
+        List<String> order = new ArrayList<>();
+        CompletableFuture<?> lowTask = executor.submit(null, Priority.LOW, () -> order.add("low"));
+        CompletableFuture<?> normalTask = executor.submit(null, Priority.NORMAL, () -> order.add("normal1"));
+        CompletableFuture<?> secondNormalTask = executor.submit(null, Priority.NORMAL, () -> order.add("normal2"));
+        CompletableFuture<?> highTask = executor.submit(null, Priority.HIGH, () -> order.add("high"));
+        latch.countDown();
+        CompletableFuture.allOf(blockingTask, lowTask, normalTask, secondNormalTask, highTask).join();
+
+        Assert.assertEquals(order, List.of("high", "normal1", "normal2", "low"));
+    }
+
+    @Test(description = "Test the coalescing of a queued task superseded by a newer task")
+    public void testSupersededTask() throws InterruptedException, ExecutionException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 8);
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(null, Priority.NORMAL, () -> {
+            awaitLatch(latch);
+            return null;
+        });
+
+        CompletableFuture<String> supersededTask = executor.submit("document", Priority.NORMAL, () -> "old");
+        CompletableFuture<String> otherTask = executor.submit("other", Priority.NORMAL, () -> "other");
+        CompletableFuture<String> latestTask = executor.submit("document", Priority.NORMAL, () -> "new");
+        latch.countDown();
+
+        Assert.assertEquals(latestTask.get(), "new");
+        Assert.assertEquals(otherTask.get(), "other");
+        Assert.assertEquals(supersededTask.get(), "new");
+    }
+
+    @Test(description = "Test the cancellation of a task superseded by a newer task with other arguments")
+    public void testSupersededTaskWithOtherArguments() throws InterruptedException, ExecutionException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 8);
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(null, Priority.NORMAL, () -> {
+            awaitLatch(latch);
+            return null;
+        });
+
+        CompletableFuture<String> sameArgumentsTask = executor.submit("document", "first", Priority.NORMAL,
+                () -> "old");
+        CompletableFuture<String> firstTask = executor.submit("document", "first", Priority.NORMAL, () -> "first");
+        CompletableFuture<String> otherArgumentsTask = executor.submit("other", "first", Priority.NORMAL,
+                () -> "old");
+        CompletableFuture<String> secondTask = executor.submit("other", "second", Priority.NORMAL, () -> "second");
+        latch.countDown();
+
+        Assert.assertEquals(firstTask.get(), "first");
+        Assert.assertEquals(sameArgumentsTask.get(), "first");
+        // The result of the newer task does not answer the request with other arguments
+        Assert.assertEquals(secondTask.get(), "second");
+        Assert.assertTrue(otherArgumentsTask.isCancelled());
+    }
+
+    @Test(description = "Test the cancellation of a running task superseded by a newer task")
+    public void testSupersededRunningTask() throws InterruptedException, ExecutionException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(2, 8);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> supersededTask = executor.submit("document", Priority.NORMAL, () -> {
+            started.countDown();
+            while (true) {
+                CancellationChecker.checkCancelled();
+                Thread.onSpinWait();
+            }
+        });
+        started.await();
+
+        CompletableFuture<String> latestTask = executor.submit("document", Priority.NORMAL, () -> "new");
+        Assert.assertEquals(latestTask.get(), "new");
+        Assert.assertEquals(supersededTask.get(), "new");
+    }
+
+    @Test(description = "Test the cancellation of the subtasks of a cancelled task")
+    public void testCancelledTaskWithSubtasks() throws InterruptedException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 8);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<List<String>> cancelledTask = executor.submit(null, Priority.NORMAL, () -> {
+            List<Supplier<String>> subtasks = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                subtasks.add(() -> {
+                    started.countDown();
+                    while (true) {
+                        CancellationChecker.checkCancelled();
+                        Thread.onSpinWait();
+                    }
+                });
+            }
+            return executor.invokeAll(subtasks);
+        });
+        started.await();
+        cancelledTask.cancel(false);
+
+        // The thread of the cancelled task is available for the next task
+        CompletableFuture<String> nextTask = executor.submit(null, Priority.NORMAL, () -> "next");
+        Assert.assertEquals(nextTask.join(), "next");
+    }
+
+    @Test(description = "Test the rejection of tasks when the queue is full")
+    public void testBoundedQueue() throws InterruptedException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(null, Priority.NORMAL, () -> {
+            started.countDown();
+            awaitLatch(latch);
+            return null;
+        });
+        started.await();
+
+        CompletableFuture<String> queuedTask = executor.submit(null, Priority.NORMAL, () -> "queued");
+        CompletableFuture<String> rejectedTask = executor.submit(null, Priority.NORMAL, () -> "rejected");
+        latch.countDown();
+
+        Assert.assertEquals(queuedTask.join(), "queued");
+        try {
+            rejectedTask.join();
+            Assert.fail("Expected the task to be rejected");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test(description = "Test that a rejected task does not supersede the active task of its key")
+    public void testRejectedSupersedingTask() throws InterruptedException, ExecutionException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(null, Priority.NORMAL, () -> {
+            started.countDown();
+            awaitLatch(latch);
+            return null;
+        });
+        started.await();
+
+        CompletableFuture<String> queuedTask = executor.submit("document", "first", Priority.NORMAL, () -> "first");
+        CompletableFuture<String> sameArgumentsTask =
+                executor.submit("document", "first", Priority.NORMAL, () -> "same");
+        CompletableFuture<String> otherArgumentsTask =
+                executor.submit("document", "second", Priority.NORMAL, () -> "second");
+        latch.countDown();
+
+        Assert.assertEquals(queuedTask.get(), "first");
+        for (CompletableFuture<String> rejectedTask : List.of(sameArgumentsTask, otherArgumentsTask)) {
+            try {
+                rejectedTask.join();
+                Assert.fail("Expected the task to be rejected");
+            } catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+        }
+    }
+
+    @Test(description = "Test the subtasks of a task running on every thread of the executor")
+    public void testSubtasksOfRunningTask() {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(1, 1);
+        CompletableFuture<List<Integer>> task = executor.submit(null, Priority.NORMAL, () -> {
+            List<Supplier<Integer>> subtasks = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int value = i;
+                subtasks.add(() -> value * value);
+            }
+            return executor.invokeAll(subtasks);
+        });
+
+        Assert.assertEquals(task.join(), List.of(0, 1, 4, 9));
+    }
+
+    @Test(description = "Test the priority of the subtasks of a task")
+    public void testSubtaskPriority() throws InterruptedException, ExecutionException {
+        ModelGeneratorExecutor executor = new ModelGeneratorExecutor(2, 8);
+        CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+        CountDownLatch normalTaskQueued = new CountDownLatch(1);
+        CountDownLatch subtaskStarted = new CountDownLatch(1);
+        CountDownLatch subtaskLatch = new CountDownLatch(1);
+        executor.submit(null, Priority.HIGH, () -> {
+            awaitLatch(blockingTaskLatch);
+            return null;
+        });
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<List<String>> lowTask = executor.submit(null, Priority.LOW, () -> {
+            awaitLatch(normalTaskQueued);
+            return executor.invokeAll(List.of(() -> {
+                subtaskStarted.countDown();
+                awaitLatch(subtaskLatch);
+                return "first";
+            }, () -> {
+                order.add("subtask");
+                return "second";
+            }));
+        });
+        CompletableFuture<Boolean> normalTask = executor.submit(null, Priority.NORMAL, () -> order.add("normal"));
+        normalTaskQueued.countDown();
+
+        // The second subtask is queued with the low priority of its task, behind the queued normal task
+        subtaskStarted.await();
+        blockingTaskLatch.countDown();
+        normalTask.get();
+        subtaskLatch.countDown();
+
+        Assert.assertEquals(lowTask.get(), List.of("first", "second"));
+        Assert.assertEquals(order, List.of("normal", "subtask"));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}